@@ -1,6 +1,7 @@
 
 plugins {
     id("java")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "mythic.prison"
@@ -52,6 +53,37 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// Benchmarks live in src/jmh/java; run with ./gradlew jmh, results go to build/results/jmh
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    // Narrow the run with -PjmhIncludes=Mining
+    if (project.hasProperty("jmhIncludes")) {
+        includes.add(project.property("jmhIncludes") as String)
+    }
+}
+
+// Load-test harness lives in src/loadtest/java so it stays out of the server jar
+sourceSets {
+    create("loadtest") {
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+        runtimeClasspath += output + compileClasspath + sourceSets.main.get().runtimeClasspath
+    }
+}
+
+// Headless load test, e.g. ./gradlew loadSimulator -Dmythic.load.players=100 -Dmythic.load.rampStep=50
+tasks.register<JavaExec>("loadSimulator") {
+    group = "verification"
+    description = "Drives synthetic miners through the real listeners and reports tick time"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("mythic.prison.loadtest.LoadSimulator")
+    systemProperties(System.getProperties().filterKeys { (it as String).startsWith("mythic.") }.mapKeys { it.key as String })
+}
+
 java {
     toolchain {
         languageVersion.set(JavaLanguageVersion.of(21))
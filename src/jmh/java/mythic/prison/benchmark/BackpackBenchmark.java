@@ -0,0 +1,73 @@
+package mythic.prison.benchmark;
+
+import mythic.prison.MythicPrison;
+import mythic.prison.data.backpack.Backpack;
+import mythic.prison.managers.BackpackManager;
+import net.minestom.server.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filling a backpack block by block and selling a full one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BackpackBenchmark {
+
+    private static final String[] BLOCK_TYPES = {
+            "minecraft:stone", "minecraft:cobblestone", "minecraft:coal_ore", "minecraft:iron_ore",
+            "minecraft:gold_ore", "minecraft:diamond_ore", "minecraft:emerald_ore", "minecraft:obsidian"
+    };
+
+    private BackpackManager backpackManager;
+    private Backpack scratch;
+    private Player player;
+    private Backpack playerBackpack;
+    private int next;
+
+    @Setup
+    public void setup() {
+        MythicPrison prison = BenchmarkServer.get();
+        backpackManager = prison.getBackpackManager();
+        scratch = new Backpack(UUID.randomUUID().toString());
+        scratch.setMaxVolume(Integer.MAX_VALUE);
+        player = BenchmarkServer.createPlayer("BackpackBench");
+        playerBackpack = backpackManager.getBackpack(player);
+    }
+
+    // Refill before every sell so each invocation sells a full backpack
+    @Setup(Level.Invocation)
+    public void fill() {
+        if (playerBackpack == null) {
+            playerBackpack = backpackManager.getBackpack(player);
+            if (playerBackpack == null) return;
+        }
+        int perType = playerBackpack.getMaxVolume() / BLOCK_TYPES.length;
+        for (String blockType : BLOCK_TYPES) {
+            playerBackpack.addBlock(blockType, perType);
+        }
+    }
+
+    @Benchmark
+    public void addBlock() {
+        if (scratch.getCurrentVolume() > 1_000_000_000) {
+            scratch.clear();
+        }
+        scratch.addBlock(BLOCK_TYPES[next++ & 7], 1);
+    }
+
+    @Benchmark
+    public void sellBackpack() {
+        backpackManager.sellBackpack(player, false);
+    }
+}
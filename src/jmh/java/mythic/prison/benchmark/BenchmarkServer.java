@@ -0,0 +1,62 @@
+package mythic.prison.benchmark;
+
+import mythic.prison.MythicPrison;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.PlayerConnection;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.file.Files;
+import java.util.UUID;
+
+/**
+ * Shared offline server for the benchmarks: every manager runs against in-memory
+ * stand-ins (no MongoDB, no Redis, no network) and players use a connection that drops packets.
+ */
+public final class BenchmarkServer {
+
+    private static MythicPrison prison;
+
+    private BenchmarkServer() {
+    }
+
+    public static synchronized MythicPrison get() {
+        if (prison == null) {
+            try {
+                File dataFolder = Files.createTempDirectory("mythic-bench").toFile();
+                prison = MythicPrison.startOffline(dataFolder);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not create benchmark data folder", e);
+            }
+        }
+        return prison;
+    }
+
+    // A player whose profile, backpack and pickaxe exist in memory
+    public static Player createPlayer(String username) {
+        MythicPrison prison = get();
+        Player player = new Player(UUID.randomUUID(), username, new NullConnection());
+
+        prison.getProfileManager().getProfile(player);
+        prison.getPickaxeManager().initializePlayer(player);
+        prison.getBackpackManager().initializePlayer(player);
+        prison.getMultiplierManager().initializePlayer(player);
+        return player;
+    }
+
+    private static class NullConnection extends PlayerConnection {
+        private static final SocketAddress ADDRESS = new InetSocketAddress("127.0.0.1", 25565);
+
+        @Override
+        public void sendPacket(SendablePacket packet) {
+        }
+
+        @Override
+        public SocketAddress getRemoteAddress() {
+            return ADDRESS;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package mythic.prison.benchmark;
+
+import mythic.prison.data.mine.BlockSampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filling one chunk section from a mine composition: the alias table against the cumulative
+ * weight walk over a HashMap it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BlockSamplerBenchmark {
+
+    private static final int SECTION_VOLUME = 16 * 16 * 16;
+
+    private final Map<String, Double> composition = new HashMap<>();
+    private final int[] states = new int[SECTION_VOLUME];
+    private final String[] names = new String[SECTION_VOLUME];
+    private BlockSampler sampler;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        composition.put("STONE", 50.0);
+        composition.put("IRON_ORE", 25.0);
+        composition.put("GOLD_ORE", 15.0);
+        composition.put("DIAMOND_ORE", 8.0);
+        composition.put("EMERALD_ORE", 2.0);
+        sampler = BlockSampler.compile(composition);
+        seed = 42L;
+    }
+
+    @Benchmark
+    public int[] aliasFill() {
+        seed = sampler.fill(states, SECTION_VOLUME, seed);
+        return states;
+    }
+
+    @Benchmark
+    public String[] weightWalk() {
+        for (int i = 0; i < SECTION_VOLUME; i++) {
+            double random = Math.random() * 100;
+            double current = 0;
+            String picked = "STONE";
+            for (Map.Entry<String, Double> entry : composition.entrySet()) {
+                current += entry.getValue();
+                if (random <= current) {
+                    picked = entry.getKey();
+                    break;
+                }
+            }
+            names[i] = picked;
+        }
+        return names;
+    }
+}
@@ -0,0 +1,40 @@
+package mythic.prison.benchmark;
+
+import mythic.prison.managers.CurrencyManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CurrencyManager.formatCurrency over the magnitudes the scoreboard and chat actually show.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CurrencyFormatBenchmark {
+
+    @Param({"money", "tokens"})
+    public String currency;
+
+    @Param({"999.5", "1234567", "5.5e13", "7.25e31"})
+    public double amount;
+
+    private CurrencyManager currencyManager;
+
+    @Setup
+    public void setup() {
+        currencyManager = BenchmarkServer.get().getCurrencyManager();
+    }
+
+    @Benchmark
+    public String formatCurrency() {
+        return currencyManager.formatCurrency(currency, amount);
+    }
+}
@@ -0,0 +1,137 @@
+package mythic.prison.benchmark;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import mythic.prison.database.PersistencePipeline;
+import mythic.prison.database.store.FileKeyValueStore;
+import mythic.prison.database.store.KeyValueStore;
+import mythic.prison.database.store.MemoryKeyValueStore;
+import mythic.prison.database.store.MongoKeyValueStore;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same profile-style write mix (one full put to nine $inc/$set updates over 1000 keys)
+ * against each KeyValueStore backend. This measures what the writer pays per call; Mongo writes
+ * are batched by the pipeline and file writes by the store's background writer.
+ *
+ * The Mongo case needs a server at -Dmythic.bench.mongoUri (default mongodb://localhost:27017,
+ * database mythicprison_bench) and fails its setup when none is reachable, leaving the other
+ * backends to run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KeyValueStoreBenchmark {
+
+    private static final int KEYS = 1000;
+
+    @Param({"memory", "file", "mongo"})
+    public String backend;
+
+    private KeyValueStore store;
+    private File directory;
+    private MongoClient mongoClient;
+    private MongoCollection<Document> mongoCollection;
+    private PersistencePipeline pipeline;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        switch (backend) {
+            case "memory" -> store = new MemoryKeyValueStore("bench");
+            case "file" -> {
+                directory = Files.createTempDirectory("kv-bench").toFile();
+                store = new FileKeyValueStore("bench", new File(directory, "bench.log"));
+            }
+            case "mongo" -> {
+                String uri = System.getProperty("mythic.bench.mongoUri", "mongodb://localhost:27017");
+                mongoClient = MongoClients.create(MongoClientSettings.builder()
+                        .applyConnectionString(new ConnectionString(uri))
+                        .applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(2, TimeUnit.SECONDS))
+                        .build());
+                try {
+                    mongoClient.getDatabase("admin").runCommand(new Document("ping", 1));
+                } catch (Exception e) {
+                    mongoClient.close();
+                    throw new IllegalStateException("Mongo is not reachable at " + uri + ", skipping", e);
+                }
+                mongoCollection = mongoClient.getDatabase("mythicprison_bench").getCollection("bench");
+                mongoCollection.drop();
+                pipeline = new PersistencePipeline();
+                store = new MongoKeyValueStore("bench", mongoCollection, new String[]{"uuid"}, pipeline);
+            }
+            default -> throw new IllegalArgumentException("Unknown backend " + backend);
+        }
+
+        // Every key exists before the updates start
+        for (int i = 0; i < KEYS; i++) {
+            store.put(key(i), profile(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (store instanceof FileKeyValueStore fileStore) {
+            fileStore.close();
+        }
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+        if (mongoCollection != null) {
+            mongoCollection.drop();
+        }
+        if (mongoClient != null) {
+            mongoClient.close();
+        }
+        if (directory != null) {
+            File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            directory.delete();
+        }
+    }
+
+    @Benchmark
+    public void putUpdateMix() {
+        int op = next;
+        next = (next + 1) % (KEYS * 10);
+        int id = op % KEYS;
+        if (op % 10 == 0) {
+            store.put(key(id), profile(id));
+        } else {
+            store.update(key(id), new Document("$inc", new Document("blocksMined", 1).append("money", 12.5))
+                    .append("$set", new Document("stats.lastMined", op)));
+        }
+    }
+
+    private static String key(int id) {
+        return "player-" + id;
+    }
+
+    private static Document profile(int id) {
+        return new Document("uuid", key(id))
+                .append("money", 0.0)
+                .append("blocksMined", 0)
+                .append("stats", new Document("lastMined", 0).append("rank", "A"));
+    }
+}
@@ -0,0 +1,69 @@
+package mythic.prison.benchmark;
+
+import mythic.prison.MythicPrison;
+import mythic.prison.data.mining.BlockValueTable;
+import mythic.prison.managers.MiningSessionManager;
+import mythic.prison.managers.MultiplierManager;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-block work of handleBlockBreak: value lookups, recording the break in the
+ * mining session, and the multiplier lookup done once per settlement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MiningBenchmark {
+
+    private static final Block[] BLOCKS = {
+            Block.STONE, Block.COBBLESTONE, Block.COAL_ORE, Block.IRON_ORE,
+            Block.GOLD_ORE, Block.DIAMOND_ORE, Block.EMERALD_ORE, Block.DEEPSLATE_IRON_ORE
+    };
+
+    private BlockValueTable values;
+    private MiningSessionManager sessions;
+    private MultiplierManager multipliers;
+    private Player player;
+    private int next;
+
+    @Setup
+    public void setup() {
+        MythicPrison prison = BenchmarkServer.get();
+        values = prison.getBlockValueTable();
+        sessions = prison.getMiningSessionManager();
+        multipliers = prison.getMultiplierManager();
+        player = BenchmarkServer.createPlayer("MiningBench");
+        multipliers.addMultiplier(player, "money", 2.5, TimeUnit.HOURS.toMillis(1));
+    }
+
+    @Benchmark
+    public void resolveBlockReward(Blackhole blackhole) {
+        Block block = BLOCKS[next++ & 7];
+        if (values.isMineable(block)) {
+            blackhole.consume(values.getMoney(block));
+            blackhole.consume(values.getXp(block));
+        }
+    }
+
+    @Benchmark
+    public void recordBreak() {
+        Block block = BLOCKS[next++ & 7];
+        sessions.recordBreak(player, values.getMaterialOrdinal(block), values.getXp(block), values.getMoney(block), false);
+    }
+
+    @Benchmark
+    public double totalMultiplier() {
+        return multipliers.getTotalMultiplier(player, "money");
+    }
+}
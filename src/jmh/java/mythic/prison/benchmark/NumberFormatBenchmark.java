@@ -0,0 +1,52 @@
+package mythic.prison.benchmark;
+
+import mythic.prison.utils.NumberFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NumberFormatter against the String.format suffix ladder it replaced.
+ * Run with -prof gc to compare allocation per call as well as throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NumberFormatBenchmark {
+
+    private static final String[] SUFFIXES = {
+            "OC", "SP", "SD", "QN", "QT", "TR", "DD", "UN", "D", "N",
+            "O", "SS", "S", "QQ", "Q", "T", "B", "M", "K"
+    };
+
+    @Param({"742", "1234567", "5.5e13", "7.25e31", "3.1e56"})
+    public double amount;
+
+    @Benchmark
+    public String numberFormatter() {
+        return NumberFormatter.format(amount);
+    }
+
+    @Benchmark
+    public String numberFormatterMoney() {
+        return NumberFormatter.formatMoney(amount);
+    }
+
+    @Benchmark
+    public String stringFormatLadder() {
+        double divisor = 1e57;
+        for (String suffix : SUFFIXES) {
+            if (amount >= divisor) {
+                return String.format("%.1f%s", amount / divisor, suffix);
+            }
+            divisor /= 1000;
+        }
+        return String.format("%.0f", amount);
+    }
+}
@@ -0,0 +1,58 @@
+package mythic.prison.benchmark;
+
+import mythic.prison.MythicPrison;
+import mythic.prison.managers.PickaxeManager;
+import mythic.prison.managers.ScoreboardManager;
+import net.kyori.adventure.text.Component;
+import net.minestom.server.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text rendered for a player on every refresh: scoreboard lines and pickaxe lore.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RenderBenchmark {
+
+    private ScoreboardManager scoreboardManager;
+    private PickaxeManager pickaxeManager;
+    private Player player;
+
+    @Setup
+    public void setup() {
+        MythicPrison prison = BenchmarkServer.get();
+        scoreboardManager = prison.getScoreboardManager();
+        pickaxeManager = prison.getPickaxeManager();
+        player = BenchmarkServer.createPlayer("RenderBench");
+
+        // A mid-game player: large balances and a handful of enchants on the pickaxe
+        prison.getCurrencyManager().setBalance(player, "money", 4.2e12);
+        prison.getCurrencyManager().setBalance(player, "tokens", 3_750_000);
+        prison.getCurrencyManager().setBalance(player, "souls", 12_500);
+        pickaxeManager.addTokenEnchant(player, "fortune", 50);
+        pickaxeManager.addTokenEnchant(player, "explosive", 10);
+        pickaxeManager.addTokenEnchant(player, "efficiency", 5);
+        pickaxeManager.addSoulEnchant(player, "soul_extraction", 3);
+        pickaxeManager.addBlocksMined(player, 1_250_000);
+    }
+
+    @Benchmark
+    public String[] scoreboardContent() {
+        return scoreboardManager.buildScoreboardContent(player);
+    }
+
+    @Benchmark
+    public List<Component> pickaxeLore() {
+        return pickaxeManager.buildPickaxeLore(player);
+    }
+}
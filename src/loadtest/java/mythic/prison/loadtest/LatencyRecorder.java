@@ -0,0 +1,54 @@
+package mythic.prison.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects nanosecond samples for one measurement window and reports percentiles in milliseconds.
+ * Only used from the simulator thread.
+ */
+public class LatencyRecorder {
+    private final String name;
+    private long[] samples = new long[1024];
+    private int count;
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    // 0.0 - 1.0, in milliseconds
+    public double percentile(double p) {
+        if (count == 0) return 0;
+        Arrays.sort(samples, 0, count);
+        int index = (int) Math.min(count - 1, Math.ceil(p * count) - 1);
+        return samples[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    public int countAbove(long nanos) {
+        int above = 0;
+        for (int i = 0; i < count; i++) {
+            if (samples[i] > nanos) above++;
+        }
+        return above;
+    }
+
+    public String summary() {
+        if (count == 0) return String.format("%-8s n=0", name);
+        return String.format("%-8s n=%-7d p50=%.3fms p95=%.3fms p99=%.3fms max=%.3fms",
+                name, count, percentile(0.50), percentile(0.95), percentile(0.99), percentile(1.0));
+    }
+
+    public void reset() {
+        count = 0;
+    }
+}
@@ -0,0 +1,324 @@
+package mythic.prison.loadtest;
+
+import mythic.prison.MythicPrison;
+import mythic.prison.data.mine.PrivateMine;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.GlobalEventHandler;
+import net.minestom.server.event.player.PlayerBlockBreakEvent;
+import net.minestom.server.event.player.PlayerChatEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+
+import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless load test: starts the server offline, spawns synthetic miners into their own mines and
+ * fires block breaks, chat, rankups and GUI commands through the registered listeners while ticking
+ * the server at 20 TPS. Prints tick time, handler latency percentiles and allocation rate per window.
+ *
+ * Configured with system properties, e.g.
+ * -Dmythic.load.players=100 -Dmythic.load.rampStep=50 -Dmythic.load.breaksPerSecond=10
+ */
+public class LoadSimulator {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final int MINE_SIZE = 16;
+    private static final int MINE_FLOOR = 1;
+    private static final int MINE_TOP = 60;
+    private static final Block[] ORES = {Block.STONE, Block.STONE, Block.STONE, Block.COAL_ORE, Block.IRON_ORE, Block.GOLD_ORE, Block.DIAMOND_ORE, Block.EMERALD_ORE};
+
+    private final int startPlayers = Integer.getInteger("mythic.load.players", 50);
+    private final int rampStep = Integer.getInteger("mythic.load.rampStep", 0);
+    private final int maxPlayers = Integer.getInteger("mythic.load.maxPlayers", 2000);
+    private final int windowSeconds = Integer.getInteger("mythic.load.windowSeconds", 30);
+    private final int windows = Integer.getInteger("mythic.load.windows", 1);
+    private final int playersPerMine = Math.max(1, Integer.getInteger("mythic.load.playersPerMine", 1));
+    private final double breaksPerSecond = Double.parseDouble(System.getProperty("mythic.load.breaksPerSecond", "10"));
+    private final double chatPerMinute = Double.parseDouble(System.getProperty("mythic.load.chatPerMinute", "2"));
+    private final double rankupPerMinute = Double.parseDouble(System.getProperty("mythic.load.rankupPerMinute", "6"));
+    private final double guiPerMinute = Double.parseDouble(System.getProperty("mythic.load.guiPerMinute", "1"));
+    private final double tickBudgetMs = Double.parseDouble(System.getProperty("mythic.load.tickBudgetMs", "50"));
+
+    private final List<SimulatedMiner> miners = new ArrayList<>();
+    private final LatencyRecorder tickTimes = new LatencyRecorder("tick");
+    private final LatencyRecorder breakLatency = new LatencyRecorder("break");
+    private final LatencyRecorder chatLatency = new LatencyRecorder("chat");
+    private final LatencyRecorder rankupLatency = new LatencyRecorder("rankup");
+    private final LatencyRecorder guiLatency = new LatencyRecorder("gui");
+
+    private MythicPrison prison;
+    private GlobalEventHandler eventHandler;
+    private InstanceContainer sharedMine;
+    private PrivateMine sharedMineOwner;
+
+    public static void main(String[] args) throws Exception {
+        new LoadSimulator().run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        File dataFolder = Files.createTempDirectory("mythic-load").toFile();
+        prison = MythicPrison.startOffline(dataFolder);
+        eventHandler = MinecraftServer.getGlobalEventHandler();
+
+        System.out.println("[LoadSimulator] " + startPlayers + " miners, " + breaksPerSecond + " breaks/s each, "
+                + (rampStep > 0 ? "+" + rampStep + " per " + windowSeconds + "s window up to " + maxPlayers : windows + " x " + windowSeconds + "s"));
+
+        addMiners(startPlayers);
+
+        int lastHealthy = -1;
+        int window = 0;
+        while (true) {
+            WindowStats stats = runWindow();
+            window++;
+            report(stats);
+
+            boolean overBudget = tickTimes.percentile(0.95) > tickBudgetMs;
+            if (!overBudget) lastHealthy = miners.size();
+
+            if (rampStep > 0) {
+                if (overBudget || miners.size() + rampStep > maxPlayers) break;
+                addMiners(rampStep);
+            } else if (window >= windows) {
+                break;
+            }
+        }
+
+        if (rampStep > 0) {
+            System.out.println(lastHealthy >= 0
+                    ? "[LoadSimulator] Highest miner count with p95 tick under " + tickBudgetMs + "ms: " + lastHealthy
+                    : "[LoadSimulator] p95 tick was over " + tickBudgetMs + "ms from the first window");
+        }
+    }
+
+    private WindowStats runWindow() {
+        tickTimes.reset();
+        breakLatency.reset();
+        chatLatency.reset();
+        rankupLatency.reset();
+        guiLatency.reset();
+
+        WindowStats stats = WindowStats.start();
+        long ticks = windowSeconds * 20L;
+        long nextTick = System.nanoTime();
+
+        for (long tick = 0; tick < ticks; tick++) {
+            long start = System.nanoTime();
+
+            fireActions();
+            MinecraftServer.process().ticker().tick(start);
+
+            long elapsed = System.nanoTime() - start;
+            tickTimes.record(elapsed);
+
+            // Keep a fixed 20 TPS schedule; when a tick overruns, the next one starts right away
+            nextTick = Math.max(nextTick + TICK_NANOS, System.nanoTime());
+            long sleep = nextTick - System.nanoTime();
+            if (sleep > 0) LockSupport.parkNanos(sleep);
+        }
+        return stats.finish();
+    }
+
+    private void fireActions() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double breaksPerTick = breaksPerSecond / 20.0;
+        double chatChance = chatPerMinute / 1200.0;
+        double rankupChance = rankupPerMinute / 1200.0;
+        double guiChance = guiPerMinute / 1200.0;
+
+        for (SimulatedMiner miner : miners) {
+            miner.pendingBreaks += breaksPerTick;
+            while (miner.pendingBreaks >= 1) {
+                miner.pendingBreaks--;
+                long start = System.nanoTime();
+                breakNextBlock(miner);
+                breakLatency.record(System.nanoTime() - start);
+            }
+
+            if (random.nextDouble() < chatChance) {
+                long start = System.nanoTime();
+                eventHandler.call(new PlayerChatEvent(miner.player, List.of(), "load test message " + random.nextInt(1000)));
+                chatLatency.record(System.nanoTime() - start);
+            }
+            if (random.nextDouble() < rankupChance) {
+                long start = System.nanoTime();
+                MinecraftServer.getCommandManager().execute(miner.player, "rankup");
+                rankupLatency.record(System.nanoTime() - start);
+            }
+            if (random.nextDouble() < guiChance) {
+                long start = System.nanoTime();
+                MinecraftServer.getCommandManager().execute(miner.player, "pickaxe enchants");
+                guiLatency.record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    // Same sequence as a client break: the event goes through the listeners, then the block is replaced
+    private void breakNextBlock(SimulatedMiner miner) {
+        Instance instance = miner.player.getInstance();
+        if (instance == null) return;
+
+        Vec position = miner.nextPosition();
+        Block block = instance.getBlock(position);
+        if (block.isAir()) {
+            // Already broken (explosions clear areas), regenerate it in place
+            block = ORES[ThreadLocalRandom.current().nextInt(ORES.length)];
+            instance.setBlock(position, block);
+        }
+
+        PlayerBlockBreakEvent event = new PlayerBlockBreakEvent(miner.player, block, Block.AIR, position, BlockFace.TOP);
+        eventHandler.call(event);
+        if (!event.isCancelled()) {
+            instance.setBlock(position, event.getResultBlock());
+        }
+    }
+
+    private void addMiners(int count) {
+        for (int i = 0; i < count; i++) {
+            int index = miners.size();
+            String username = "LoadBot" + index;
+            Player player = new Player(UUID.randomUUID(), username, new SimulatedConnection());
+
+            // Load the same per-player state JoinQuitListener would, minus the network side
+            prison.getProfileManager().getProfile(player);
+            prison.getPickaxeManager().initializePlayer(player);
+            prison.getBackpackManager().initializePlayer(player);
+            prison.getMultiplierManager().initializePlayer(player);
+            prison.getCurrencyManager().setBalance(player, "money", 1e12);
+            prison.getPickaxeManager().addTokenEnchant(player, "fortune", 10);
+            prison.getPickaxeManager().addTokenEnchant(player, "explosive", 2);
+            prison.getPickaxeManager().addTokenEnchant(player, "tokenator", 5);
+
+            Instance mine = mineFor(player, index);
+            player.setInstance(mine, new Pos(MINE_SIZE / 2.0, MINE_TOP + 1, MINE_SIZE / 2.0)).join();
+            miners.add(new SimulatedMiner(player, index));
+        }
+        System.out.println("[LoadSimulator] Miners online: " + miners.size());
+    }
+
+    // Each miner gets their own mine, or shares one per playersPerMine miners to save memory
+    private Instance mineFor(Player player, int index) {
+        if (playersPerMine > 1 && index % playersPerMine != 0 && sharedMine != null) {
+            sharedMineOwner.addAllowedPlayer(player.getUuid().toString());
+            return sharedMine;
+        }
+
+        InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(0, MINE_FLOOR, Block.BEDROCK);
+            unit.modifier().fillHeight(MINE_FLOOR, MINE_TOP, Block.STONE);
+        });
+        instance.loadChunk(0, 0).join();
+
+        PrivateMine mine = new PrivateMine(player.getUuid().toString(), player.getUsername());
+        mine.setMineInstance(instance);
+
+        sharedMine = instance;
+        sharedMineOwner = mine;
+        return instance;
+    }
+
+    private void report(WindowStats stats) {
+        int overBudget = tickTimes.countAbove((long) (tickBudgetMs * 1_000_000));
+        System.out.println("[LoadSimulator] ---- " + miners.size() + " miners, " + windowSeconds + "s ----");
+        System.out.println("  " + tickTimes.summary() + "  over budget: " + overBudget);
+        System.out.println("  " + breakLatency.summary());
+        System.out.println("  " + chatLatency.summary());
+        System.out.println("  " + rankupLatency.summary());
+        System.out.println("  " + guiLatency.summary());
+        System.out.println(String.format("  heap     alloc=%.1f MB/s gc=%d (%d ms) used=%d MB",
+                stats.allocatedBytes / 1_048_576.0 / stats.seconds, stats.gcCount, stats.gcMillis, stats.usedHeap / 1_048_576));
+    }
+
+    private static class SimulatedMiner {
+        private final Player player;
+        private double pendingBreaks;
+        private int cursor;
+
+        private SimulatedMiner(Player player, int index) {
+            this.player = player;
+            // Spread miners sharing a mine over different layers
+            this.cursor = index * MINE_SIZE * MINE_SIZE;
+        }
+
+        // Walks the mine layer by layer from the top, wrapping back to the top at the floor
+        private Vec nextPosition() {
+            int layerSize = MINE_SIZE * MINE_SIZE;
+            int depth = MINE_TOP - MINE_FLOOR;
+            int slot = Math.floorMod(cursor++, layerSize * depth);
+            int y = MINE_TOP - 1 - slot / layerSize;
+            int x = slot % MINE_SIZE;
+            int z = (slot / MINE_SIZE) % MINE_SIZE;
+            return new Vec(x, y, z);
+        }
+    }
+
+    private static class WindowStats {
+        private long startNanos;
+        private long startAllocated;
+        private long startGcCount;
+        private long startGcMillis;
+
+        private double seconds;
+        private long allocatedBytes;
+        private long gcCount;
+        private long gcMillis;
+        private long usedHeap;
+
+        private static WindowStats start() {
+            WindowStats stats = new WindowStats();
+            stats.startNanos = System.nanoTime();
+            stats.startAllocated = allocatedBytes();
+            stats.startGcCount = gcCount();
+            stats.startGcMillis = gcMillis();
+            return stats;
+        }
+
+        private WindowStats finish() {
+            seconds = (System.nanoTime() - startNanos) / 1e9;
+            allocatedBytes = allocatedBytes() - startAllocated;
+            gcCount = gcCount() - startGcCount;
+            gcMillis = gcMillis() - startGcMillis;
+            usedHeap = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+            return this;
+        }
+
+        // Bytes allocated by all live threads, so scheduler and writer threads count too
+        private static long allocatedBytes() {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+                return threads.getTotalThreadAllocatedBytes();
+            }
+            return 0;
+        }
+
+        private static long gcCount() {
+            long count = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+            }
+            return count;
+        }
+
+        private static long gcMillis() {
+            long millis = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                millis += Math.max(0, gc.getCollectionTime());
+            }
+            return millis;
+        }
+    }
+}
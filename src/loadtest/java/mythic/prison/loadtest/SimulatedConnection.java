@@ -0,0 +1,23 @@
+package mythic.prison.loadtest;
+
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.PlayerConnection;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * Player connection that drops every packet, for players created by the load simulator.
+ */
+public class SimulatedConnection extends PlayerConnection {
+    private static final SocketAddress ADDRESS = new InetSocketAddress("127.0.0.1", 25565);
+
+    @Override
+    public void sendPacket(SendablePacket packet) {
+    }
+
+    @Override
+    public SocketAddress getRemoteAddress() {
+        return ADDRESS;
+    }
+}
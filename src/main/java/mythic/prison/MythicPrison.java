@@ -5,11 +5,20 @@ import mythic.prison.listeners.*;
 import net.kyori.adventure.text.Component;
 import net.minestom.server.MinecraftServer;
 import mythic.prison.managers.*;
+import mythic.prison.database.DatabaseConfig;
 import mythic.prison.database.MongoManager;
+import mythic.prison.database.PersistencePipeline;
 import mythic.prison.database.RedisManager;
+import mythic.prison.database.store.FileProfileStore;
+import mythic.prison.database.store.MemoryProfileStore;
+import mythic.prison.database.store.MongoProfileStore;
+import mythic.prison.database.store.ProfileStore;
+import mythic.prison.metrics.PerformanceMonitor;
+import mythic.prison.metrics.TickWatchdog;
 import mythic.prison.data.backpack.Backpack;
 import mythic.prison.managers.SchematicWorldManager.SchematicWorld;
 import mythic.prison.data.mine.PrivateMine;
+import mythic.prison.data.mining.BlockValueTable;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.event.inventory.InventoryPreClickEvent;
@@ -36,6 +45,10 @@ public class MythicPrison {
     // Database managers
     private MongoManager mongoManager;
     private RedisManager redisManager;
+    private PersistencePipeline persistencePipeline;
+    private ProfileStore profileStore;
+    private final PerformanceMonitor performanceMonitor = new PerformanceMonitor();
+    private TickWatchdog tickWatchdog;
 
     // Core managers
     private ProfileManager profileManager;
@@ -50,6 +63,7 @@ public class MythicPrison {
     private MilestoneManager milestoneManager;
     private ScoreboardManager scoreboardManager;
     private MineManager mineManager;
+    private MineRegenerationManager mineRegenerationManager;
     private SchematicWorldManager schematicWorldManager;
     private WorldManager worldManager; // UNCOMMENTED THIS LINE
 
@@ -63,6 +77,9 @@ public class MythicPrison {
 
     // In MythicPrison.java
     private PickaxeEffectsManager pickaxeEffectsManager;
+    private MiningSessionManager miningSessionManager;
+    private HudManager hudManager;
+    private BlockValueTable blockValueTable;
 
     public static void main(String[] args) {
         new MythicPrison().start();
@@ -102,6 +119,10 @@ public class MythicPrison {
             // Start updaters
             startUpdaters();
 
+            // Write stack samples to data/logs when a tick overruns
+            tickWatchdog = new TickWatchdog(new File(dataFolder, "logs"), performanceMonitor);
+            tickWatchdog.start();
+
             // Start the server
             minecraftServer.start("0.0.0.0", 25565);
 
@@ -117,6 +138,29 @@ public class MythicPrison {
         }
     }
 
+    /**
+     * Starts the managers, listeners and commands without databases, worlds or a network listener.
+     * Player data goes to an in-memory store (or local files with -Dmythic.store=file). Nothing ticks until
+     * the caller drives the server ticker. Used by the benchmarks and the load simulator.
+     */
+    public static MythicPrison startOffline(File dataFolder) {
+        MythicPrison prison = new MythicPrison();
+        instance = prison;
+
+        prison.dataFolder = dataFolder;
+        prison.createSubDirectories();
+
+        MinecraftServer.init();
+        prison.persistencePipeline = new PersistencePipeline();
+        prison.profileStore = "file".equals(DatabaseConfig.STORE_BACKEND)
+                ? new FileProfileStore(new File(dataFolder, "store"))
+                : new MemoryProfileStore();
+        prison.initializeManagers();
+        prison.registerEventListeners();
+        prison.registerCommands();
+        return prison;
+    }
+
     private void initializeDataFolder() {
         try {
             // Create data folder in the current working directory
@@ -145,7 +189,7 @@ public class MythicPrison {
     private void createSubDirectories() {
         try {
             // Create necessary subdirectories
-            String[] subDirs = {"schematics", "worlds", "configs", "logs"};
+            String[] subDirs = {"schematics", "worlds", "configs", "logs", "cache"};
 
             for (String subDir : subDirs) {
                 File dir = new File(dataFolder, subDir);
@@ -166,21 +210,37 @@ public class MythicPrison {
 
     private void initializeDatabases() {
         try {
-            System.out.println("[MythicPrison] Connecting to databases...");
-
-            // Initialize MongoDB
-            mongoManager = new MongoManager();
-            mongoManager.connect();
-            System.out.println("[MythicPrison] ✓ MongoDB connection attempted");
-
-            // Initialize Redis
-            redisManager = new RedisManager();
-            redisManager.connect();
-            System.out.println("[MythicPrison] ✓ Redis connection attempted");
+            System.out.println("[MythicPrison] Opening " + DatabaseConfig.STORE_BACKEND + " storage...");
+
+            // Shared batched writer used by the Mongo store
+            persistencePipeline = new PersistencePipeline();
+            System.out.println("[MythicPrison] ✓ Persistence pipeline started");
+
+            switch (DatabaseConfig.STORE_BACKEND) {
+                case "memory" -> profileStore = new MemoryProfileStore();
+                case "file" -> profileStore = new FileProfileStore(new File(DatabaseConfig.STORE_DIRECTORY));
+                default -> {
+                    // Initialize MongoDB
+                    mongoManager = new MongoManager();
+                    mongoManager.connect();
+                    System.out.println("[MythicPrison] ✓ MongoDB connection attempted");
+
+                    // Initialize Redis
+                    redisManager = new RedisManager();
+                    redisManager.connect();
+                    System.out.println("[MythicPrison] ✓ Redis connection attempted");
+
+                    profileStore = new MongoProfileStore(mongoManager, redisManager, persistencePipeline);
+                }
+            }
+            System.out.println("[MythicPrison] ✓ Using " + profileStore.getName() + " profile store");
 
         } catch (Exception e) {
             System.err.println("[MythicPrison] ✗ Database initialization failed: " + e.getMessage());
             e.printStackTrace();
+            if (profileStore == null) {
+                profileStore = new MemoryProfileStore();
+            }
         }
     }
 
@@ -197,6 +257,10 @@ public class MythicPrison {
             // worldManager.loadWorlds();
             // System.out.println("[MythicPrison] ✓ WorldManager initialized");
 
+            // Block values are read by the backpack, mining and enchant code
+            blockValueTable = BlockValueTable.load(new File(dataFolder, "configs/block-values.json"));
+            System.out.println("[MythicPrison] ✓ BlockValueTable loaded");
+
             // Initialize core managers in dependency order
             profileManager = new ProfileManager();
             System.out.println("[MythicPrison] ✓ ProfileManager initialized");
@@ -237,6 +301,9 @@ public class MythicPrison {
             schematicWorldManager = new SchematicWorldManager();
             System.out.println("[MythicPrison] ✓ SchematicWorldManager initialized");
 
+            mineRegenerationManager = new MineRegenerationManager();
+            System.out.println("[MythicPrison] ✓ MineRegenerationManager initialized");
+
             // In your onEnable() method, add:
             this.friendsManager = new FriendsManager();
 
@@ -247,6 +314,12 @@ public class MythicPrison {
             // In your initialization method
             this.pickaxeEffectsManager = new PickaxeEffectsManager();
 
+            hudManager = new HudManager();
+            System.out.println("[MythicPrison] ✓ HudManager initialized");
+
+            miningSessionManager = new MiningSessionManager();
+            System.out.println("[MythicPrison] ✓ MiningSessionManager initialized");
+
             System.out.println("[MythicPrison] ✓ All managers initialized successfully!");
 
         } catch (Exception e) {
@@ -324,19 +397,20 @@ public class MythicPrison {
 
     private void registerEventListeners() {
         var globalEventHandler = MinecraftServer.getGlobalEventHandler();
+        PerformanceMonitor perf = performanceMonitor;
 
         // Initialize the JoinQuitListener
         JoinQuitListener joinQuitListener = new JoinQuitListener();
 
         // Register player configuration event (REQUIRED for player spawning)
-        globalEventHandler.addListener(AsyncPlayerConfigurationEvent.class, joinQuitListener::onPlayerConfiguration);
+        globalEventHandler.addListener(AsyncPlayerConfigurationEvent.class, perf.timed("event.configuration", joinQuitListener::onPlayerConfiguration));
 
         // Register join/quit events
-        globalEventHandler.addListener(PlayerSpawnEvent.class, joinQuitListener::onJoin);
-        globalEventHandler.addListener(PlayerDisconnectEvent.class, joinQuitListener::onQuit);
+        globalEventHandler.addListener(PlayerSpawnEvent.class, perf.timed("event.join", joinQuitListener::onJoin));
+        globalEventHandler.addListener(PlayerDisconnectEvent.class, perf.timed("event.quit", joinQuitListener::onQuit));
 
         // Chat formatting
-        globalEventHandler.addListener(PlayerChatEvent.class, event -> {
+        globalEventHandler.addListener(PlayerChatEvent.class, perf.timed("event.chat", event -> {
             Player player = event.getPlayer();
             String message = event.getRawMessage(); // Fix: Use getRawMessage() instead of getMessage()
 
@@ -354,13 +428,13 @@ public class MythicPrison {
 
             // Log to console
             System.out.println("[CHAT] " + formattedMessage);
-        });
+        }));
 
         // Block break event for mining mechanics
-        globalEventHandler.addListener(PlayerBlockBreakEvent.class, this::handleBlockBreak);
+        globalEventHandler.addListener(PlayerBlockBreakEvent.class, perf.timed("event.blockBreak", this::handleBlockBreak));
 
         // Right-click handler for pickaxe enchant menu
-        globalEventHandler.addListener(PlayerUseItemEvent.class, event -> {
+        globalEventHandler.addListener(PlayerUseItemEvent.class, perf.timed("event.useItem", event -> {
             Player player = event.getPlayer();
             ItemStack item = event.getItemStack();
 
@@ -369,18 +443,18 @@ public class MythicPrison {
                 pickaxeManager.handlePickaxeRightClick(player, item);
                 event.setCancelled(true); // Prevent default use behavior
             }
-        });
+        }));
 
         // Item drop prevention for soulbound pickaxe
-        globalEventHandler.addListener(ItemDropEvent.class, event -> {
+        globalEventHandler.addListener(ItemDropEvent.class, perf.timed("event.itemDrop", event -> {
             if (pickaxeManager != null && pickaxeManager.isSoulboundPickaxe(event.getItemStack())) {
                 event.setCancelled(true);
                 event.getPlayer().sendMessage("§cYou cannot drop your soulbound pickaxe!");
             }
-        });
+        }));
 
         // Inventory protection events - simplified approach
-        globalEventHandler.addListener(InventoryPreClickEvent.class, event -> {
+        globalEventHandler.addListener(InventoryPreClickEvent.class, perf.timed("event.inventoryClick", event -> {
             Player player = (Player) event.getPlayer();
             int slot = event.getSlot();
             PickaxeManager pickaxeManager = getPickaxeManager();
@@ -411,14 +485,14 @@ public class MythicPrison {
                     // Don't print full stack trace for common inventory errors
                 }
             }
-        });
+        }));
 
-        globalEventHandler.addListener(PlayerSwapItemEvent.class, event -> {
+        globalEventHandler.addListener(PlayerSwapItemEvent.class, perf.timed("event.swapItem", event -> {
             PickaxeManager pickaxeManager = getPickaxeManager();
             if (pickaxeManager != null && pickaxeManager.preventItemSwap(event)) {
                 event.setCancelled(true);
             }
-        });
+        }));
 
         // Remove the PlayerChangeHeldSlotEvent listener to allow hotbar scrolling
     /*
@@ -439,7 +513,7 @@ public class MythicPrison {
 
         // Add pickaxe passive effects handling
         // Add pickaxe passive effects handling
-        MinecraftServer.getGlobalEventHandler().addListener(PlayerChangeHeldSlotEvent.class, event -> {
+        MinecraftServer.getGlobalEventHandler().addListener(PlayerChangeHeldSlotEvent.class, perf.timed("event.heldSlot", event -> {
             Player player = event.getPlayer();
             PickaxeManager pickaxeManager = getPickaxeManager();
             PickaxeEffectsManager effectsManager = getPickaxeEffectsManager();
@@ -455,10 +529,10 @@ public class MythicPrison {
                     effectsManager.removePassiveEffects(player);
                 }
             }
-        });
+        }));
 
         // Also apply passive effects on login if player has pickaxe equipped
-        MinecraftServer.getGlobalEventHandler().addListener(AsyncPlayerConfigurationEvent.class, event -> {
+        MinecraftServer.getGlobalEventHandler().addListener(AsyncPlayerConfigurationEvent.class, perf.timed("event.configurationEffects", event -> {
             Player player = event.getPlayer();
 
             // Apply passive effects after a short delay to ensure everything is loaded
@@ -473,7 +547,7 @@ public class MythicPrison {
                     }
                 }
             }, 1, TimeUnit.SECONDS);
-        });
+        }));
 
         // Existing block break handling...
     }
@@ -484,139 +558,41 @@ public class MythicPrison {
             Block block = event.getBlock();
             Point position = event.getBlockPosition();
 
-            // Get current world player is in
-            String currentWorld = schematicWorldManager.getPlayerWorld(player);
-
-            // Remove these debug lines:
-
-            // Determine if player can break blocks in this location
-            boolean canBreakBlocks = false;
-
-            if (currentWorld != null) {
-                // Check if player is in their own mine
-                String expectedMineWorld = "mine_" + player.getUsername().toLowerCase();
-                if (currentWorld.equals(expectedMineWorld)) {
-                    canBreakBlocks = true;
-                    // Remove this debug line:
-
-                }
-                // Check if player is in someone else's mine and has permission
-                else if (currentWorld.startsWith("mine_")) {
-                    // Extract the mine owner's name from the world name
-                    String mineOwnerName = currentWorld.substring(5); // Remove "mine_" prefix
-                    Player mineOwner = findPlayerByName(mineOwnerName);
-
-                    if (mineOwner != null) {
-                        PrivateMine mine = mineManager.getPlayerMine(mineOwner);
-                        if (mine != null && mine.canPlayerAccess(player.getUuid().toString())) {
-                            canBreakBlocks = true;
-                            // Remove this debug line:
-
-                        }
-                    }
-                }
-                // Deny breaking blocks in spawn or any other world
-                else if (currentWorld.equals("spawn") || !currentWorld.startsWith("mine_")) {
-                    canBreakBlocks = false;
-                    // Remove this debug line:
-
-                }
-            } else {
-                // If currentWorld is null, check if player might be in a mine instance directly
-                Instance playerInstance = player.getInstance();
-                if (playerInstance != null) {
-                    // Check all mines to see if this instance belongs to any mine
-                    for (var mine : mineManager.getAllMines()) {
-                        if (mine.getMineInstance() == playerInstance) {
-                            if (mine.getOwnerUUID().equals(player.getUuid().toString()) ||
-                                    mine.canPlayerAccess(player.getUuid().toString())) {
-                                canBreakBlocks = true;
-                                // Remove this debug line:
-
-                                // Update the world tracking
-                                schematicWorldManager.trackPlayerInWorld(player, mine.getWorldName());
-                                break;
-                            }
-                        }
-                    }
-                }
-
-                if (!canBreakBlocks) {
-                    // Remove this debug line:
-
-                }
-            }
+            // Blocks can only be broken inside a private mine the player has access to
+            PrivateMine mine = mineManager.getMineByInstance(player.getInstance());
+            boolean canBreakBlocks = mine != null && mine.canPlayerAccess(player.getUuid());
 
             // Cancel the event if player cannot break blocks here
             if (!canBreakBlocks) {
                 event.setCancelled(true);
-                // Send message only if player is trying to break blocks in spawn
-                if (currentWorld != null && currentWorld.equals("spawn")) {
-                    player.sendMessage("§cYou cannot break blocks at spawn! Use /mine to go to your mine.");
-                } else if (currentWorld != null && currentWorld.startsWith("mine_")) {
+                String currentWorld = schematicWorldManager.getPlayerWorld(player);
+                if (mine != null) {
                     player.sendMessage("§cYou don't have permission to break blocks in this mine!");
+                } else if (currentWorld != null && currentWorld.equals("spawn")) {
+                    player.sendMessage("§cYou cannot break blocks at spawn! Use /mine to go to your mine.");
                 } else {
                     player.sendMessage("§cYou cannot break blocks here!");
                 }
                 return;
             }
 
-            // Allow the block break and process mining logic
-            String blockType = block.registry().material().name();
-
-            // Call mine-specific logic if player is in their own mine
-            String expectedMineWorld = "mine_" + player.getUsername().toLowerCase();
-            if (currentWorld != null && currentWorld.equals(expectedMineWorld)) {
-                mineManager.onBlockBreak(player, blockType);
-            }
-
-            // Add block to backpack
-            backpackManager.initializePlayer(player);
-            Backpack backpack = backpackManager.getBackpack(player);
-
-            if (backpack != null) {
-                if (backpack.getAvailableSpace() > 0) {
-                    backpack.addBlock(blockType, 1);
-
-                    // Auto-sell if backpack is full or auto-sell is enabled
-                    if (backpack.isFull() || backpack.isAutoSellEnabled()) {
-                        backpackManager.sellBackpack(player, false);
-                    }
-                } else {
-                    // Backpack is full, auto-sell and then add the block
-                    backpackManager.sellBackpack(player, true);
-                    backpack.addBlock(blockType, 1);
-                }
-            }
-
-            // Give pickaxe XP for breaking blocks
-            long xpGained = getBlockXP(block);
-            pickaxeManager.addPickaxeExp(player, xpGained);
-
-            // Update stats
-            statsManager.addBlocksMined(player, 1);
-
-            // Give base money reward with mine multipliers
-            double baseReward = getBlockReward(block);
-            double multiplier = multiplierManager.getTotalMultiplier(player, "money");
-
-            // Apply mine-specific multiplier if player is in their own mine
-            PrivateMine playerMine = mineManager.getPlayerMine(player);
-            if (playerMine != null && currentWorld != null && currentWorld.equals(expectedMineWorld)) {
-                multiplier *= playerMine.getMultiplier();
-                // Apply beacon bonus
-                multiplier += (playerMine.getBeaconLevel() * 0.1);
+            // Mine borders and other protected blocks can't be broken
+            if (!blockValueTable.isMineable(block)) {
+                event.setCancelled(true);
+                return;
             }
 
-            double finalReward = baseReward * multiplier;
-
-            currencyManager.addBalance(player, "money", finalReward);
+            // Allow the block break and process mining logic
+            // Every break inside the region counts toward the mine's refill, whoever made it
+            mine.onBlockBreak(position);
+            boolean inOwnMine = mine.isOwner(player.getUuid());
 
-            // Check milestones
-            milestoneManager.checkMilestones(player);
+            // Backpack, XP, stats, money and milestones are settled once per tick by the mining session
+            miningSessionManager.recordBreak(player, blockValueTable.getMaterialOrdinal(block),
+                    blockValueTable.getXp(block), blockValueTable.getMoney(block), inOwnMine);
 
-            // Update scoreboard
-            scoreboardManager.updatePlayerScoreboard(player);
+            // Roll the player's compiled enchant procs
+            pickaxeEffectsManager.applyMiningEffects(player, block, position);
 
         } catch (Exception e) {
             System.err.println("[MythicPrison] Error handling block break: " + e.getMessage());
@@ -635,42 +611,6 @@ public class MythicPrison {
         // Continue with rest of mining logic...
     }
 
-    // Add this helper method to find players by name
-    private Player findPlayerByName(String playerName) {
-        for (Player onlinePlayer : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
-            if (onlinePlayer.getUsername().equalsIgnoreCase(playerName)) {
-                return onlinePlayer;
-            }
-        }
-        return null;
-    }
-
-    private double getBlockReward(Block block) {
-        return switch (block.registry().material().name()) {
-            case "STONE" -> 1.0;
-            case "COAL_ORE" -> 5.0;
-            case "IRON_ORE" -> 10.0;
-            case "GOLD_ORE" -> 25.0;
-            case "DIAMOND_ORE" -> 100.0;
-            case "EMERALD_ORE" -> 250.0;
-            default -> 0.5;
-        };
-    }
-
-    private long getBlockXP(Block block) {
-        return switch (block.registry().material().name()) {
-            case "STONE" -> 1L;
-            case "COAL_ORE" -> 5L;
-            case "IRON_ORE" -> 10L;
-            case "GOLD_ORE" -> 25L;
-            case "DIAMOND_ORE" -> 50L;
-            case "EMERALD_ORE" -> 100L;
-            case "OBSIDIAN" -> 75L;
-            case "NETHERITE_BLOCK" -> 200L;
-            default -> 1L;
-        };
-    }
-
     private void registerCommands() {
         System.out.println("[MythicPrison] Registering commands...");
 
@@ -692,6 +632,7 @@ public class MythicPrison {
             registerCommandSafely("AutoRebirthCommand", AutoRebirthCommand::register);
             registerCommandSafely("BackpackCommand", BackpackCommand::register);
             registerCommandSafely("SetSpawn", SetSpawnCommand::register);
+            registerCommandSafely("PerfCommand", PerfCommand::register);
 
             // Register MineCommand directly (it doesn't use static register method)
             try {
@@ -775,6 +716,18 @@ public class MythicPrison {
         return pickaxeEffectsManager;
     }
 
+    public MiningSessionManager getMiningSessionManager() {
+        return miningSessionManager;
+    }
+
+    public HudManager getHudManager() {
+        return hudManager;
+    }
+
+    public BlockValueTable getBlockValueTable() {
+        return blockValueTable;
+    }
+
     public Instance getMainInstance() {
         return mainInstance;
     }
@@ -793,7 +746,7 @@ public class MythicPrison {
             System.out.println("[MythicPrison] Starting background updaters...");
 
             // Scoreboard updater
-            scheduler.scheduleAtFixedRate(() -> {
+            scheduler.scheduleAtFixedRate(performanceMonitor.timedTask("task.scoreboard", () -> {
                 try {
                     if (scoreboardManager != null) {
                         scoreboardManager.updateAllScoreboards();
@@ -801,10 +754,10 @@ public class MythicPrison {
                 } catch (Exception e) {
                     System.err.println("[MythicPrison] Error in scoreboard updater: " + e.getMessage());
                 }
-            }, 1, 3, TimeUnit.SECONDS); // Update every 3 seconds
+            }), 1, 3, TimeUnit.SECONDS); // Update every 3 seconds
 
             // Pickaxe validation updater - check every 10 seconds (more frequent)
-            scheduler.scheduleAtFixedRate(() -> {
+            scheduler.scheduleAtFixedRate(performanceMonitor.timedTask("task.pickaxeValidation", () -> {
                 try {
                     if (pickaxeManager != null) {
                         for (Player player : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
@@ -814,16 +767,23 @@ public class MythicPrison {
                 } catch (Exception e) {
                     System.err.println("[MythicPrison] Error in pickaxe validation: " + e.getMessage());
                 }
-            }, 5, 10, TimeUnit.SECONDS); // Check every 10 seconds
+            }), 5, 10, TimeUnit.SECONDS); // Check every 10 seconds
 
             // Tab updater for ping and player counts
-            scheduler.scheduleAtFixedRate(() -> {
+            scheduler.scheduleAtFixedRate(performanceMonitor.timedTask("task.tabList", () -> {
                 try {
                     mythic.prison.listeners.ChatListener.updateAllTabHeadersFooters();
                 } catch (Exception e) {
                     System.err.println("Error in tab updater: " + e.getMessage());
                 }
-            }, 5, 5, TimeUnit.SECONDS);
+            }), 5, 5, TimeUnit.SECONDS);
+
+            // Optional periodic timing dump (-Dmythic.perf.dumpMinutes=N, off by default)
+            int dumpMinutes = Integer.getInteger("mythic.perf.dumpMinutes", 0);
+            if (dumpMinutes > 0) {
+                scheduler.scheduleAtFixedRate(() -> performanceMonitor.dumpToConsole(10),
+                        dumpMinutes, dumpMinutes, TimeUnit.MINUTES);
+            }
 
             System.out.println("[MythicPrison] ✓ Updaters started!");
 
@@ -837,12 +797,32 @@ public class MythicPrison {
         try {
             System.out.println("[MythicPrison] Shutting down gracefully...");
 
+            if (tickWatchdog != null) {
+                tickWatchdog.stop();
+            }
+
             // Save worlds
             // if (worldManager != null) {
             //     worldManager.shutdown();
             //     System.out.println("[MythicPrison] ✓ WorldManager shutdown");
             // }
 
+            // Flush pending profile writes before the connection goes away
+            if (profileManager != null) {
+                profileManager.shutdown();
+                System.out.println("[MythicPrison] ✓ Profiles flushed");
+            }
+
+            if (persistencePipeline != null) {
+                persistencePipeline.shutdown();
+                System.out.println("[MythicPrison] ✓ Pending writes flushed");
+            }
+
+            if (profileStore != null) {
+                profileStore.close();
+                System.out.println("[MythicPrison] ✓ Profile store closed");
+            }
+
             // Close database connections
             if (mongoManager != null) {
                 mongoManager.disconnect();
@@ -881,6 +861,18 @@ public class MythicPrison {
         return redisManager;
     }
 
+    public ProfileStore getProfileStore() {
+        return profileStore;
+    }
+
+    public PerformanceMonitor getPerformanceMonitor() {
+        return performanceMonitor;
+    }
+
+    public PersistencePipeline getPersistencePipeline() {
+        return persistencePipeline;
+    }
+
     public ProfileManager getProfileManager() {
         return profileManager;
     }
@@ -929,6 +921,10 @@ public class MythicPrison {
         return mineManager;
     }
 
+    public MineRegenerationManager getMineRegenerationManager() {
+        return mineRegenerationManager;
+    }
+
     public SchematicWorldManager getSchematicWorldManager() {
         return schematicWorldManager;
     }
@@ -177,6 +177,7 @@ public class AdminCommand extends Command {
 
         int oldPrestige = profile.getPrestige();
         profile.setPrestige(newPrestige);
+        MythicPrison.getInstance().getMultiplierManager().invalidate(target);
         MythicPrison.getInstance().getProfileManager().saveProfile(profile);
         rankingManager.updatePlayerPrefix(target);
 
@@ -202,6 +203,7 @@ public class AdminCommand extends Command {
 
         int oldRebirth = profile.getRebirth();
         profile.setRebirth(newRebirth);
+        MythicPrison.getInstance().getMultiplierManager().invalidate(target);
         MythicPrison.getInstance().getProfileManager().saveProfile(profile);
         rankingManager.updatePlayerPrefix(target);
 
@@ -245,6 +247,7 @@ public class AdminCommand extends Command {
         profile.setPrestige(0);
         profile.setRebirth(0);
         profile.setAscension(0);
+        MythicPrison.getInstance().getMultiplierManager().invalidate(target);
 
         MythicPrison.getInstance().getProfileManager().saveProfile(profile);
         rankingManager.updatePlayerPrefix(target);
@@ -361,6 +364,7 @@ private void resetPlayerPrestigeConsole(Player target, PlayerProfile profile, Ra
 
     int oldPrestige = profile.getPrestige();
     profile.setPrestige(newPrestige);
+    MythicPrison.getInstance().getMultiplierManager().invalidate(target);
     MythicPrison.getInstance().getProfileManager().saveProfile(profile);
     rankingManager.updatePlayerPrefix(target);
 
@@ -385,6 +389,7 @@ private void resetPlayerRebirthConsole(Player target, PlayerProfile profile, Ran
 
     int oldRebirth = profile.getRebirth();
     profile.setRebirth(newRebirth);
+    MythicPrison.getInstance().getMultiplierManager().invalidate(target);
     MythicPrison.getInstance().getProfileManager().saveProfile(profile);
     rankingManager.updatePlayerPrefix(target);
 
@@ -427,6 +432,7 @@ private void resetPlayerAllConsole(Player target, PlayerProfile profile, Ranking
     profile.setPrestige(0);
     profile.setRebirth(0);
     profile.setAscension(0);
+    MythicPrison.getInstance().getMultiplierManager().invalidate(target);
 
     MythicPrison.getInstance().getProfileManager().saveProfile(profile);
     rankingManager.updatePlayerPrefix(target);
@@ -346,7 +346,7 @@ private void performActualTeleport(Player player, String mineWorldName, Schemati
             return;
         }
         
-        if (!targetMine.canPlayerAccess(player.getUuid().toString())) {
+        if (!targetMine.canPlayerAccess(player.getUuid())) {
             ChatUtil.sendError(player, "You don't have permission to access " + targetPlayerName + "'s mine!");
             return;
         }
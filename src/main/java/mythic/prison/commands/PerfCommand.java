@@ -0,0 +1,85 @@
+package mythic.prison.commands;
+
+import mythic.prison.MythicPrison;
+import mythic.prison.metrics.LatencyHistogram;
+import mythic.prison.metrics.PerformanceMonitor;
+import mythic.prison.player.Profile;
+import mythic.prison.utils.ChatUtil;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.command.builder.arguments.number.ArgumentInteger;
+import net.minestom.server.entity.Player;
+
+import java.util.List;
+
+public class PerfCommand extends Command {
+
+    private static final int TOP = 8;
+
+    public PerfCommand() {
+        super("perf");
+
+        // /perf - all windows
+        setDefaultExecutor((sender, context) -> {
+            if (sender instanceof Player player) {
+                if (!hasPermission(player)) return;
+                for (int minutes : PerformanceMonitor.WINDOWS) {
+                    showWindow(player, minutes);
+                }
+            } else {
+                MythicPrison.getInstance().getPerformanceMonitor().dumpToConsole(TOP);
+            }
+        });
+
+        // /perf <minutes>
+        ArgumentInteger minutesArg = ArgumentType.Integer("minutes").between(1, 15);
+        addSyntax((sender, context) -> {
+            int minutes = context.get(minutesArg);
+            if (sender instanceof Player player) {
+                if (!hasPermission(player)) return;
+                showWindow(player, minutes);
+            } else {
+                for (String line : MythicPrison.getInstance().getPerformanceMonitor().report(minutes, TOP)) {
+                    System.out.println("[Perf] " + line);
+                }
+            }
+        }, minutesArg);
+    }
+
+    private static void showWindow(Player player, int minutes) {
+        List<LatencyHistogram.Snapshot> top = MythicPrison.getInstance().getPerformanceMonitor().topOffenders(minutes, TOP);
+
+        ChatUtil.sendMessage(player, "§e§lTimings §7(last " + minutes + "m, by total time)");
+        if (top.isEmpty()) {
+            ChatUtil.sendMessage(player, "§7  No samples yet.");
+            return;
+        }
+        for (LatencyHistogram.Snapshot snapshot : top) {
+            ChatUtil.sendMessage(player, String.format("§f  %s §7x%d §8| §7total §e%.1fms §8| §7p50 §a%.2fms §8| §7p99 §6%.2fms §8| §7max §c%.2fms",
+                    snapshot.getName(),
+                    snapshot.getCount(),
+                    snapshot.getTotalNanos() / 1_000_000.0,
+                    snapshot.percentileNanos(0.50) / 1_000_000.0,
+                    snapshot.percentileNanos(0.99) / 1_000_000.0,
+                    snapshot.getMaxNanos() / 1_000_000.0));
+        }
+    }
+
+    private static boolean hasPermission(Player player) {
+        try {
+            Profile profile = Profile.loadAsync(player.getUuid().toString()).join();
+            if (profile != null && profile.hasPermission("mythicprison.admin")) {
+                return true;
+            }
+        } catch (Exception e) {
+            System.err.println("[PerfCommand] Error checking permission for " + player.getUsername() + ": " + e.getMessage());
+        }
+        ChatUtil.sendError(player, "You don't have permission to use this command!");
+        return false;
+    }
+
+    public static void register() {
+        MinecraftServer.getCommandManager().register(new PerfCommand());
+    }
+}
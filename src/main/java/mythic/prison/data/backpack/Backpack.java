@@ -1,5 +1,9 @@
 package mythic.prison.data.backpack;
 
+import mythic.prison.MythicPrison;
+import mythic.prison.data.mining.BlockValueTable;
+
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -10,7 +14,8 @@ public class Backpack {
     private double sellMultiplier;
     private boolean autoSellEnabled;
     private int autoSellInterval;
-    private final Map<String, Integer> blocks;
+    // Block counts indexed by BlockValueTable material ordinal; grows when a new material shows up
+    private int[] counts;
 
     public Backpack(String playerUUID) {
         this.playerUUID = playerUUID;
@@ -19,37 +24,60 @@ public class Backpack {
         this.sellMultiplier = 1.0;
         this.autoSellEnabled = false;
         this.autoSellInterval = 60; // 60 seconds
-        this.blocks = new HashMap<>();
+        this.counts = new int[0];
     }
 
     public void addBlock(String blockType, int amount) {
-        if (currentVolume + amount <= maxVolume) {
-            blocks.put(blockType, blocks.getOrDefault(blockType, 0) + amount);
+        addBlock(values().getMaterialOrdinal(blockType), amount);
+    }
+
+    public void addBlock(int ordinal, int amount) {
+        if (amount > 0 && currentVolume + amount <= maxVolume) {
+            if (ordinal >= counts.length) {
+                counts = Arrays.copyOf(counts, ordinal + 1);
+            }
+            counts[ordinal] += amount;
             currentVolume += amount;
         }
     }
 
     public boolean removeBlock(String blockType, int amount) {
-        int current = blocks.getOrDefault(blockType, 0);
-        if (current >= amount) {
-            if (current == amount) {
-                blocks.remove(blockType);
-            } else {
-                blocks.put(blockType, current - amount);
-            }
+        int ordinal = values().getMaterialOrdinal(blockType);
+        if (ordinal < counts.length && counts[ordinal] >= amount) {
+            counts[ordinal] -= amount;
             currentVolume -= amount;
             return true;
         }
         return false;
     }
 
+    public int getBlockCount(String blockType) {
+        int ordinal = values().getMaterialOrdinal(blockType);
+        return ordinal < counts.length ? counts[ordinal] : 0;
+    }
+
+    /**
+     * Sum of count * price over all materials, before the sell multiplier.
+     */
+    public double getTotalValue(double[] prices) {
+        double total = 0;
+        int length = Math.min(counts.length, prices.length);
+        for (int i = 0; i < length; i++) {
+            total += counts[i] * prices[i];
+        }
+        return total;
+    }
+
     public void clear() {
-        blocks.clear();
+        Arrays.fill(counts, 0);
         currentVolume = 0;
     }
 
     public boolean isEmpty() {
-        return blocks.isEmpty();
+        for (int count : counts) {
+            if (count > 0) return false;
+        }
+        return true;
     }
 
     public boolean isFull() {
@@ -72,5 +100,20 @@ public class Backpack {
     public void setAutoSellEnabled(boolean autoSellEnabled) { this.autoSellEnabled = autoSellEnabled; }
     public int getAutoSellInterval() { return autoSellInterval; }
     public void setAutoSellInterval(int autoSellInterval) { this.autoSellInterval = autoSellInterval; }
-    public Map<String, Integer> getBlocks() { return new HashMap<>(blocks); }
+
+    // Non-zero counts keyed by namespaced block id, the format stored in the backpacks collection
+    public Map<String, Integer> getBlocks() {
+        BlockValueTable values = values();
+        Map<String, Integer> blocks = new HashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                blocks.put(values.getMaterialName(i), counts[i]);
+            }
+        }
+        return blocks;
+    }
+
+    private static BlockValueTable values() {
+        return MythicPrison.getInstance().getBlockValueTable();
+    }
 }
\ No newline at end of file
@@ -11,8 +11,14 @@ public class Milestone {
     private final long targetValue;
     private final Map<String, Double> rewards; // Changed from single reward to multiple rewards
     private final int order;
+    // 0 for one-time milestones, otherwise the milestone can be completed again every repeatInterval past the target
+    private final long repeatInterval;
 
     public Milestone(String id, String name, String description, MilestoneType type, long targetValue, Map<String, Double> rewards, int order) {
+        this(id, name, description, type, targetValue, rewards, order, 0);
+    }
+
+    public Milestone(String id, String name, String description, MilestoneType type, long targetValue, Map<String, Double> rewards, int order, long repeatInterval) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -20,6 +26,7 @@ public class Milestone {
         this.targetValue = targetValue;
         this.rewards = new HashMap<>(rewards);
         this.order = order;
+        this.repeatInterval = Math.max(0, repeatInterval);
     }
 
     // Constructor for backward compatibility with single reward
@@ -31,6 +38,7 @@ public class Milestone {
         this.targetValue = targetValue;
         this.rewards = new HashMap<>();
         this.order = order;
+        this.repeatInterval = 0;
         
         // Convert single reward to rewards map
         if (reward != null) {
@@ -50,6 +58,14 @@ public class Milestone {
     public String getDescription() { return description; }
     public MilestoneType getType() { return type; }
     public long getTargetValue() { return targetValue; }
+    public long getRepeatInterval() { return repeatInterval; }
+    public boolean isRepeatable() { return repeatInterval > 0; }
+
+    // Progress needed for the next completion after the given number of completions
+    public long getTargetValue(int completions) {
+        if (completions <= 0) return targetValue;
+        return isRepeatable() ? targetValue + completions * repeatInterval : Long.MAX_VALUE;
+    }
     
     public Map<String, Double> getRewards() { return new HashMap<>(rewards); }
     
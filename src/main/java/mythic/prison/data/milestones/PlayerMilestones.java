@@ -1,29 +1,56 @@
 package mythic.prison.data.milestones;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 public class PlayerMilestones {
     private final String playerUUID;
     private final Set<String> completedMilestones;
+    // How many times each milestone was completed (more than once only for repeatable ones)
+    private final Map<String, Integer> completionCounts;
+    // Lowest progress value that completes something, per Milestone.MilestoneType ordinal; 0 means not computed yet
+    private final long[] nextThresholds;
 
     public PlayerMilestones(String playerUUID) {
         this.playerUUID = playerUUID;
         this.completedMilestones = new HashSet<>();
+        this.completionCounts = new HashMap<>();
+        this.nextThresholds = new long[Milestone.MilestoneType.values().length];
     }
 
-    public void completeMilestone(String milestoneId) {
+    public synchronized void completeMilestone(String milestoneId) {
         completedMilestones.add(milestoneId);
+        completionCounts.merge(milestoneId, 1, Integer::sum);
     }
 
-    public boolean isCompleted(String milestoneId) {
+    public synchronized boolean isCompleted(String milestoneId) {
         return completedMilestones.contains(milestoneId);
     }
 
-    public Set<String> getCompletedMilestones() {
+    public synchronized int getCompletionCount(String milestoneId) {
+        return completionCounts.getOrDefault(milestoneId, 0);
+    }
+
+    public synchronized Set<String> getCompletedMilestones() {
         return new HashSet<>(completedMilestones);
     }
 
+    public long getNextThreshold(Milestone.MilestoneType type) {
+        return nextThresholds[type.ordinal()];
+    }
+
+    public void setNextThreshold(Milestone.MilestoneType type, long threshold) {
+        nextThresholds[type.ordinal()] = threshold;
+    }
+
+    // Forces the next progress check of every type to re-evaluate
+    public void resetThresholds() {
+        Arrays.fill(nextThresholds, 0);
+    }
+
     public String getPlayerUUID() {
         return playerUUID;
     }
@@ -0,0 +1,157 @@
+package mythic.prison.data.mine;
+
+import net.minestom.server.instance.block.Block;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A mine composition compiled into a Walker/Vose alias table over block state ids. Drawing a
+ * block takes one 64-bit random value: the high half picks a column, the low half decides between
+ * the column and its alias. Randomness comes from a SplitMix64 stream whose state the caller keeps,
+ * so a sampler is immutable and can be shared by every mine using the same composition.
+ */
+public final class BlockSampler {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // Cached by mines in place of a composition that names no known block, so it isn't compiled again
+    static final BlockSampler NONE = new BlockSampler(new String[0], new int[0], new double[0]);
+
+    private final String[] names;
+    private final int[] states;
+    private final int[] alias;
+    // Probability of keeping the column, scaled to 2^32
+    private final long[] thresholds;
+
+    private BlockSampler(String[] names, int[] states, double[] weights) {
+        int n = weights.length;
+        this.names = names;
+        this.states = states;
+        this.alias = new int[n];
+        this.thresholds = new long[n];
+
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+
+        // Vose: pair each under-full column with an over-full one
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            (scaled[i] < 1.0 ? small : large).add(i);
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.poll();
+            int more = large.poll();
+            thresholds[less] = (long) (scaled[less] * 4294967296.0);
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            (scaled[more] < 1.0 ? small : large).add(more);
+        }
+        // Whatever is left is full up to rounding error
+        for (int i : large) {
+            thresholds[i] = 1L << 32;
+            alias[i] = i;
+        }
+        for (int i : small) {
+            thresholds[i] = 1L << 32;
+            alias[i] = i;
+        }
+    }
+
+    /**
+     * Compiles a composition of block names ("STONE", "minecraft:coal_ore") to weights. Entries are
+     * taken in name order so the same composition always gives the same table.
+     *
+     * @return the sampler, or null if no entry names a known block with a positive weight
+     */
+    public static BlockSampler compile(Map<String, Double> composition) {
+        Map<String, Double> sorted = new TreeMap<>(composition);
+        String[] names = new String[sorted.size()];
+        int[] states = new int[sorted.size()];
+        double[] weights = new double[sorted.size()];
+        int size = 0;
+
+        for (Map.Entry<String, Double> entry : sorted.entrySet()) {
+            Double weight = entry.getValue();
+            if (weight == null || !(weight > 0) || Double.isInfinite(weight)) continue;
+            Block block = resolve(entry.getKey());
+            if (block == null) continue;
+
+            names[size] = entry.getKey();
+            states[size] = block.stateId();
+            weights[size] = weight;
+            size++;
+        }
+        if (size == 0) return null;
+
+        String[] trimmedNames = new String[size];
+        int[] trimmedStates = new int[size];
+        double[] trimmedWeights = new double[size];
+        System.arraycopy(names, 0, trimmedNames, 0, size);
+        System.arraycopy(states, 0, trimmedStates, 0, size);
+        System.arraycopy(weights, 0, trimmedWeights, 0, size);
+        return new BlockSampler(trimmedNames, trimmedStates, trimmedWeights);
+    }
+
+    private static Block resolve(String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        return Block.fromState(key.contains(":") ? key : "minecraft:" + key);
+    }
+
+    /** Advances a SplitMix64 stream state. */
+    public static long nextSeed(long seed) {
+        return seed + GOLDEN_GAMMA;
+    }
+
+    /** The random value for a SplitMix64 stream state. */
+    public static long mix(long seed) {
+        long z = seed;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public int sampleIndex(long random) {
+        int column = (int) (((random >>> 32) * states.length) >>> 32);
+        return (random & 0xFFFFFFFFL) < thresholds[column] ? column : alias[column];
+    }
+
+    public int sampleState(long random) {
+        return states[sampleIndex(random)];
+    }
+
+    public String sampleName(long random) {
+        return names[sampleIndex(random)];
+    }
+
+    /**
+     * Fills {@code out[0..count)} with sampled block state ids.
+     *
+     * @return the stream state to continue from
+     */
+    public long fill(int[] out, int count, long seed) {
+        int n = states.length;
+        for (int i = 0; i < count; i++) {
+            seed += GOLDEN_GAMMA;
+            long z = seed;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            z ^= z >>> 31;
+
+            int column = (int) (((z >>> 32) * n) >>> 32);
+            out[i] = states[(z & 0xFFFFFFFFL) < thresholds[column] ? column : alias[column]];
+        }
+        return seed;
+    }
+
+    public int size() {
+        return states.length;
+    }
+}
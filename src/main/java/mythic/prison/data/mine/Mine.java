@@ -1,8 +1,14 @@
 
 package mythic.prison.data.mine;
 
+import mythic.prison.MythicPrison;
+import mythic.prison.managers.MineRegenerationManager;
+import net.minestom.server.instance.Instance;
+
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class Mine {
 
@@ -10,7 +16,10 @@ public class Mine {
     private String name;
     private String displayName;
     private Object instance; // Generic object instead of Instance
+    private MineRegion region;
     private Map<String, Double> blockComposition;
+    // Compiled from blockComposition on first use; cleared by setBlockComposition
+    private volatile BlockSampler sampler;
     private boolean isRegenerating;
     private long lastRegenTime;
     private int totalBlocks;
@@ -68,22 +77,19 @@ public class Mine {
     public void regenerate() {
         if (isRegenerating) return;
 
-        isRegenerating = true;
-        blocksBroken = 0;
-        lastRegenTime = System.currentTimeMillis();
-
-        // In a real implementation, this would regenerate the mine blocks
-        // For now, we just reset the counters
-
-        // Simulate regeneration time
-        new Thread(() -> {
-            try {
-                Thread.sleep(5000); // 5 second regen time
+        MineRegenerationManager regenerationManager = MythicPrison.getInstance().getMineRegenerationManager();
+        if (instance instanceof Instance target && region != null && regenerationManager != null) {
+            // Counters reset once the refill has been written
+            isRegenerating = regenerationManager.regenerate(this, target, region, getSampler(), null, () -> {
+                blocksBroken = 0;
+                lastRegenTime = System.currentTimeMillis();
                 isRegenerating = false;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+            });
+        } else {
+            // Nothing placed yet to refill
+            blocksBroken = 0;
+            lastRegenTime = System.currentTimeMillis();
+        }
     }
 
     public void onBlockBreak(String blockType) {
@@ -96,18 +102,31 @@ public class Mine {
     }
 
     public String getRandomBlockType() {
-        double random = Math.random() * 100;
-        double cumulative = 0;
-
-        for (Map.Entry<String, Double> entry : blockComposition.entrySet()) {
-            cumulative += entry.getValue();
-            if (random <= cumulative) {
-                return entry.getKey();
+        BlockSampler compiled = getSampler();
+        if (compiled == null) {
+            // Fallback to stone
+            return "STONE";
+        }
+        return compiled.sampleName(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * The block composition compiled for sampling, or null if it names no known block.
+     */
+    public BlockSampler getSampler() {
+        BlockSampler compiled = sampler;
+        if (compiled == null) {
+            // Locked with setBlockComposition so a replaced composition can't cache a stale sampler
+            synchronized (this) {
+                compiled = sampler;
+                if (compiled == null) {
+                    compiled = BlockSampler.compile(blockComposition);
+                    if (compiled == null) compiled = BlockSampler.NONE;
+                    sampler = compiled;
+                }
             }
         }
-
-        // Fallback to stone
-        return "STONE";
+        return compiled == BlockSampler.NONE ? null : compiled;
     }
 
     // Getters and setters
@@ -143,12 +162,23 @@ public class Mine {
         this.instance = instance;
     }
 
+    public MineRegion getRegion() {
+        return region;
+    }
+
+    public void setRegion(MineRegion region) {
+        this.region = region;
+        this.totalBlocks = region != null ? region.getVolume() : 0;
+    }
+
+    // Read-only; replace it through setBlockComposition so the sampler is recompiled
     public Map<String, Double> getBlockComposition() {
-        return blockComposition;
+        return Collections.unmodifiableMap(blockComposition);
     }
 
-    public void setBlockComposition(Map<String, Double> blockComposition) {
+    public synchronized void setBlockComposition(Map<String, Double> blockComposition) {
         this.blockComposition = blockComposition;
+        this.sampler = null;
     }
 
     public boolean isRegenerating() {
@@ -0,0 +1,32 @@
+package mythic.prison.data.mine;
+
+import net.minestom.server.instance.Instance;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps mine instances to their PrivateMine so block-break permission checks
+ * don't have to resolve world names or scan players and mines.
+ */
+public class MineAccessIndex {
+    private final Map<Instance, PrivateMine> minesByInstance = new ConcurrentHashMap<>();
+
+    // Called whenever a mine gets, changes or loses its instance
+    public void update(PrivateMine mine, Instance previous, Instance current) {
+        if (previous != null) {
+            minesByInstance.remove(previous, mine);
+        }
+        if (current != null) {
+            minesByInstance.put(current, mine);
+        }
+    }
+
+    public PrivateMine getMine(Instance instance) {
+        return instance != null ? minesByInstance.get(instance) : null;
+    }
+
+    public int size() {
+        return minesByInstance.size();
+    }
+}
@@ -0,0 +1,61 @@
+package mythic.prison.data.mine;
+
+import net.minestom.server.coordinate.Point;
+
+/**
+ * Inclusive block box that a mine refills.
+ */
+public class MineRegion {
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+
+    public MineRegion(int x1, int y1, int z1, int x2, int y2, int z2) {
+        this.minX = Math.min(x1, x2);
+        this.minY = Math.min(y1, y2);
+        this.minZ = Math.min(z1, z2);
+        this.maxX = Math.max(x1, x2);
+        this.maxY = Math.max(y1, y2);
+        this.maxZ = Math.max(z1, z2);
+    }
+
+    /**
+     * Parses "x1,y1,z1,x2,y2,z2".
+     */
+    public static MineRegion parse(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 6) {
+            throw new IllegalArgumentException("Mine region needs 6 coordinates: " + value);
+        }
+        int[] c = new int[6];
+        for (int i = 0; i < 6; i++) {
+            c[i] = Integer.parseInt(parts[i].trim());
+        }
+        return new MineRegion(c[0], c[1], c[2], c[3], c[4], c[5]);
+    }
+
+    public boolean contains(Point point) {
+        return contains(point.blockX(), point.blockY(), point.blockZ());
+    }
+
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x <= maxX
+                && y >= minY && y <= maxY
+                && z >= minZ && z <= maxZ;
+    }
+
+    public int getVolume() {
+        return (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+    }
+
+    public int getMinX() { return minX; }
+    public int getMinY() { return minY; }
+    public int getMinZ() { return minZ; }
+    public int getMaxX() { return maxX; }
+    public int getMaxY() { return maxY; }
+    public int getMaxZ() { return maxZ; }
+
+    @Override
+    public String toString() {
+        return minX + "," + minY + "," + minZ + " -> " + maxX + "," + maxY + "," + maxZ;
+    }
+}
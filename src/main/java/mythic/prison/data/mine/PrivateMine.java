@@ -1,16 +1,29 @@
 package mythic.prison.data.mine;
 
 import mythic.prison.MythicPrison;
+import mythic.prison.managers.MineManager;
+import mythic.prison.managers.MineRegenerationManager;
 import mythic.prison.managers.SchematicWorldManager;
+import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class PrivateMine {
+    // The empty pit in data/schematics/mine.schem
+    private static final MineRegion DEFAULT_REGION = MineRegion.parse(System.getProperty("mythic.mine.region", "-15,61,40,15,85,74"));
+    // Percentage of the region mined before it refills
+    private static final double REGEN_THRESHOLD = Double.parseDouble(System.getProperty("mythic.regen.thresholdPercent", "80")) / 100.0;
+
     private String id;
     private String ownerUUID;
     private String ownerName;
@@ -22,7 +35,16 @@ public class PrivateMine {
     private String worldName;
     private Instance mineInstance;
     private Set<String> allowedPlayers;
+    // Owner and allowed players as UUIDs, read on every block break
+    private final Set<UUID> accessSet = ConcurrentHashMap.newKeySet();
+    private final UUID ownerId;
     private double multiplier;
+    private MineRegion region;
+    private Map<String, Double> blockComposition;
+    private volatile BlockSampler sampler;
+    private final AtomicInteger blocksBroken = new AtomicInteger();
+    private volatile long lastRegenTime;
+    private volatile boolean filled;
 
     public PrivateMine(String ownerUUID, String ownerName) {
         this.id = UUID.randomUUID().toString();
@@ -35,7 +57,14 @@ public class PrivateMine {
         this.beaconLevel = 0;
         this.worldName = "mine_" + ownerName.toLowerCase();
         this.allowedPlayers = new HashSet<>();
+        this.ownerId = UUID.fromString(ownerUUID);
+        this.accessSet.add(ownerId);
         this.multiplier = 1.0;
+        this.region = DEFAULT_REGION;
+        this.blockComposition = new LinkedHashMap<>();
+        this.blockComposition.put("STONE", 70.0);
+        this.blockComposition.put("COAL_ORE", 25.0);
+        this.blockComposition.put("IRON_ORE", 5.0);
     }
 
     public int getMineSize() {
@@ -66,6 +95,14 @@ public class PrivateMine {
         return isPublic || ownerUUID.equals(playerUUID) || allowedPlayers.contains(playerUUID);
     }
 
+    public boolean canPlayerAccess(UUID playerId) {
+        return isPublic || accessSet.contains(playerId);
+    }
+
+    public boolean isOwner(UUID playerId) {
+        return ownerId.equals(playerId);
+    }
+
     public boolean upgradeSize() {
         if (canUpgradeSize()) {
             sizeLevel++;
@@ -125,8 +162,12 @@ public class PrivateMine {
                     }
                 }
             });
+
+            // This world has no mine.schem pit; refill the generated ore layers under the spawn platform instead
+            int half = getMineSize() / 2;
+            region = new MineRegion(-half, 1, -half, half, 19, half);
         
-            this.mineInstance = newMineInstance;
+            setMineInstance(newMineInstance);
         
             // Register with SchematicWorldManager for tracking
             SchematicWorldManager schematicManager = MythicPrison.getInstance().getSchematicWorldManager();
@@ -167,7 +208,7 @@ public class PrivateMine {
             }
 
             // Use proper mine spawn point
-            Pos spawnPoint = new Pos(0, 22, 0);
+            Pos spawnPoint = getSpawnPoint();
         
             // Teleport the player
             player.setInstance(mineInstance, spawnPoint);
@@ -189,22 +230,49 @@ public class PrivateMine {
         }
     }
 
-    public void onBlockBreak(String blockType) {
-        // This method handles when a block is broken in this private mine
-        // Apply beacon effects and multipliers
-        
-        double finalMultiplier = multiplier;
-        
-        // Apply beacon effects
-        if (beaconLevel > 0) {
-            finalMultiplier += (beaconLevel * 0.1); // 10% bonus per beacon level
+    /**
+     * Counts a block broken in this mine by anyone; only blocks inside the region count toward a refill.
+     */
+    public void onBlockBreak(Point position) {
+        // Multiplier and beacon bonuses are applied when the mining session settles
+        if (region.contains(position)) {
+            addBlocksBroken(1);
         }
-        
-        // You could add more functionality here like:
-        // - Increment a blocks broken counter
-        // - Apply beacon effects
-        // - Check for special drops based on mine level
-        // - Custom block regeneration
+    }
+
+    /**
+     * Counts blocks already known to be inside the region, e.g. from an area break.
+     */
+    public void addBlocksBroken(int count) {
+        if (count <= 0) return;
+        int broken = blocksBroken.addAndGet(count);
+        if (filled && broken >= region.getVolume() * REGEN_THRESHOLD) {
+            regenerate();
+        }
+    }
+
+    /**
+     * Queues a refill of the mine region from the block composition.
+     *
+     * @return false if the mine has no world yet or a refill is already queued
+     */
+    public boolean regenerate() {
+        if (mineInstance == null) return false;
+
+        MineRegenerationManager regenerationManager = MythicPrison.getInstance().getMineRegenerationManager();
+        if (regenerationManager == null) return false;
+
+        return regenerationManager.regenerate(this, mineInstance, region, getSampler(), getSpawnPoint(), () -> {
+            blocksBroken.set(0);
+            lastRegenTime = System.currentTimeMillis();
+            filled = true;
+        });
+    }
+
+    private Pos getSpawnPoint() {
+        SchematicWorldManager schematicManager = MythicPrison.getInstance().getSchematicWorldManager();
+        Pos spawnPoint = schematicManager != null ? schematicManager.getWorldSpawnPosition(worldName) : null;
+        return spawnPoint != null ? spawnPoint : new Pos(0, 22, 0);
     }
 
     // Getters and setters
@@ -232,12 +300,58 @@ public class PrivateMine {
     public void setWorldName(String worldName) { this.worldName = worldName; }
 
     public Instance getMineInstance() { return mineInstance; }
-    public void setMineInstance(Instance mineInstance) { this.mineInstance = mineInstance; }
+    public void setMineInstance(Instance mineInstance) {
+        Instance previous = this.mineInstance;
+        this.mineInstance = mineInstance;
+
+        MineManager mineManager = MythicPrison.getInstance().getMineManager();
+        if (mineManager != null) {
+            mineManager.getAccessIndex().update(this, previous, mineInstance);
+        }
+    }
 
     public Set<String> getAllowedPlayers() { return new HashSet<>(allowedPlayers); }
-    public void addAllowedPlayer(String playerUUID) { allowedPlayers.add(playerUUID); }
-    public void removeAllowedPlayer(String playerUUID) { allowedPlayers.remove(playerUUID); }
+    public void addAllowedPlayer(String playerUUID) {
+        allowedPlayers.add(playerUUID);
+        accessSet.add(UUID.fromString(playerUUID));
+    }
+    public void removeAllowedPlayer(String playerUUID) {
+        allowedPlayers.remove(playerUUID);
+        if (!ownerUUID.equals(playerUUID)) {
+            accessSet.remove(UUID.fromString(playerUUID));
+        }
+    }
 
     public double getMultiplier() { return multiplier; }
     public void setMultiplier(double multiplier) { this.multiplier = multiplier; }
+
+    public MineRegion getRegion() { return region; }
+    public void setRegion(MineRegion region) { this.region = region; }
+
+    // Read-only; replace it through setBlockComposition so the sampler is recompiled
+    public Map<String, Double> getBlockComposition() { return Collections.unmodifiableMap(blockComposition); }
+    public synchronized void setBlockComposition(Map<String, Double> blockComposition) {
+        this.blockComposition = blockComposition;
+        this.sampler = null;
+    }
+
+    public BlockSampler getSampler() {
+        BlockSampler compiled = sampler;
+        if (compiled == null) {
+            // Locked with setBlockComposition so a replaced composition can't cache a stale sampler
+            synchronized (this) {
+                compiled = sampler;
+                if (compiled == null) {
+                    compiled = BlockSampler.compile(blockComposition);
+                    if (compiled == null) compiled = BlockSampler.NONE;
+                    sampler = compiled;
+                }
+            }
+        }
+        return compiled == BlockSampler.NONE ? null : compiled;
+    }
+
+    public int getBlocksBroken() { return blocksBroken.get(); }
+    public long getLastRegenTime() { return lastRegenTime; }
+    public boolean isFilled() { return filled; }
 }
\ No newline at end of file
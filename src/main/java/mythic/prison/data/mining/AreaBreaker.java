@@ -0,0 +1,80 @@
+package mythic.prison.data.mining;
+
+import mythic.prison.data.mine.MineRegion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.batch.AbsoluteBlockBatch;
+import net.minestom.server.instance.block.Block;
+
+/**
+ * Breaks every mineable block in an area with one read pass and one block batch,
+ * so clients get one multi-block change per chunk section instead of a packet per block.
+ */
+public final class AreaBreaker {
+
+    private AreaBreaker() {
+    }
+
+    /**
+     * Clears the cube of the given radius around center (the center block itself is left alone)
+     * and returns how many blocks were broken and their combined money value.
+     */
+    public static Result breakCube(Instance instance, Point center, int radius, BlockValueTable values) {
+        return breakCube(instance, center, radius, values, null);
+    }
+
+    /**
+     * As {@link #breakCube(Instance, Point, int, BlockValueTable)}, also counting how many of the
+     * broken blocks lie inside the given mine region (which may be null).
+     */
+    public static Result breakCube(Instance instance, Point center, int radius, BlockValueTable values, MineRegion region) {
+        int centerX = center.blockX();
+        int centerY = center.blockY();
+        int centerZ = center.blockZ();
+
+        AbsoluteBlockBatch batch = new AbsoluteBlockBatch();
+        int blocksBroken = 0;
+        int regionBlocksBroken = 0;
+        double money = 0;
+
+        for (int x = centerX - radius; x <= centerX + radius; x++) {
+            for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                // Skip whole columns in unloaded chunks
+                if (!instance.isChunkLoaded(x >> 4, z >> 4)) continue;
+
+                for (int y = centerY - radius; y <= centerY + radius; y++) {
+                    if (x == centerX && y == centerY && z == centerZ) continue;
+
+                    Block block = instance.getBlock(x, y, z, Block.Getter.Condition.TYPE);
+                    if (!values.isMineable(block)) continue;
+
+                    batch.setBlock(x, y, z, Block.AIR);
+                    money += values.getMoney(block);
+                    blocksBroken++;
+                    if (region != null && region.contains(x, y, z)) regionBlocksBroken++;
+                }
+            }
+        }
+
+        if (blocksBroken > 0) {
+            batch.apply(instance, null);
+        }
+        return new Result(blocksBroken, regionBlocksBroken, money);
+    }
+
+    public static class Result {
+        private final int blocksBroken;
+        private final int regionBlocksBroken;
+        private final double money;
+
+        public Result(int blocksBroken, int regionBlocksBroken, double money) {
+            this.blocksBroken = blocksBroken;
+            this.regionBlocksBroken = regionBlocksBroken;
+            this.money = money;
+        }
+
+        public int getBlocksBroken() { return blocksBroken; }
+        public int getRegionBlocksBroken() { return regionBlocksBroken; }
+        public double getMoney() { return money; }
+    }
+}
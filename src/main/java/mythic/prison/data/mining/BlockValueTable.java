@@ -0,0 +1,277 @@
+package mythic.prison.data.mining;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.item.Material;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single source of truth for block sell value, mining money, pickaxe XP and whether a block
+ * can be mined. Loaded from data/configs/block-values.json and compiled into arrays indexed
+ * by block state id, so hot-path lookups are one array read.
+ */
+public class BlockValueTable {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final Entry defaultEntry;
+    private final Map<String, Entry> entriesByName;
+
+    // Indexed by Block#stateId()
+    private final double[] sellValues;
+    private final double[] moneyValues;
+    private final long[] xpValues;
+    private final boolean[] mineable;
+    // Material ordinal per block state, resolved the first time the state is asked for; -1 until then
+    private final int[] stateMaterialOrdinals;
+
+    // Dense ordinals for materials stored in backpacks; configured blocks come first,
+    // anything else is appended the first time it is seen. Both arrays are copy-on-write.
+    private final Map<String, Integer> materialOrdinals = new ConcurrentHashMap<>();
+    private volatile String[] materialNames = new String[0];
+    private volatile double[] materialSellPrices = new double[0];
+
+    private BlockValueTable(Entry defaultEntry, Map<String, Entry> entriesByName) {
+        this.defaultEntry = defaultEntry;
+        this.entriesByName = entriesByName;
+
+        for (String name : entriesByName.keySet()) {
+            if (entriesByName.get(name).sell > 0) {
+                getMaterialOrdinal(name);
+            }
+        }
+
+        int maxStateId = 0;
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) {
+                maxStateId = Math.max(maxStateId, state.stateId());
+            }
+        }
+
+        int size = maxStateId + 1;
+        sellValues = new double[size];
+        moneyValues = new double[size];
+        xpValues = new long[size];
+        mineable = new boolean[size];
+        stateMaterialOrdinals = new int[size];
+        Arrays.fill(stateMaterialOrdinals, -1);
+
+        for (Block block : Block.values()) {
+            Entry entry = entriesByName.getOrDefault(normalize(block.name()), defaultEntry);
+            for (Block state : block.possibleStates()) {
+                int id = state.stateId();
+                sellValues[id] = entry.sell;
+                moneyValues[id] = entry.money;
+                xpValues[id] = entry.xp;
+                mineable[id] = entry.mineable;
+            }
+        }
+    }
+
+    /**
+     * Loads the table from the given file, writing the defaults there first if it doesn't exist.
+     */
+    public static BlockValueTable load(File file) {
+        JsonObject config = null;
+        try {
+            if (file.exists()) {
+                try (FileReader reader = new FileReader(file)) {
+                    config = GSON.fromJson(reader, JsonObject.class);
+                }
+                System.out.println("[BlockValueTable] Loaded block values from " + file.getName());
+            } else {
+                config = createDefaultConfig();
+                File parent = file.getParentFile();
+                if (parent != null && !parent.exists()) {
+                    parent.mkdirs();
+                }
+                try (FileWriter writer = new FileWriter(file)) {
+                    GSON.toJson(config, writer);
+                }
+                System.out.println("[BlockValueTable] Created default block values at " + file.getPath());
+            }
+        } catch (Exception e) {
+            System.err.println("[BlockValueTable] Error loading block values, using defaults: " + e.getMessage());
+        }
+        if (config == null) {
+            config = createDefaultConfig();
+        }
+
+        Entry defaultEntry = config.has("default")
+                ? Entry.fromJson(config.getAsJsonObject("default"), new Entry(1.0, 0.5, 1L, true))
+                : new Entry(1.0, 0.5, 1L, true);
+
+        Map<String, Entry> entries = new HashMap<>();
+        if (config.has("blocks")) {
+            for (Map.Entry<String, JsonElement> block : config.getAsJsonObject("blocks").entrySet()) {
+                entries.put(normalize(block.getKey()), Entry.fromJson(block.getValue().getAsJsonObject(), defaultEntry));
+            }
+        }
+
+        BlockValueTable table = new BlockValueTable(defaultEntry, entries);
+        System.out.println("[BlockValueTable] Compiled " + entries.size() + " block entries over " + table.sellValues.length + " block states");
+        return table;
+    }
+
+    // Block lookups (hot path)
+
+    public double getSellValue(Block block) {
+        return sellValues[block.stateId()];
+    }
+
+    public double getMoney(Block block) {
+        return moneyValues[block.stateId()];
+    }
+
+    public long getXp(Block block) {
+        return xpValues[block.stateId()];
+    }
+
+    public boolean isMineable(Block block) {
+        return mineable[block.stateId()];
+    }
+
+    // Name lookups, for stored block types such as backpack contents
+
+    public double getSellValue(String blockType) {
+        return entriesByName.getOrDefault(normalize(blockType), defaultEntry).sell;
+    }
+
+    public double getMoney(String blockType) {
+        return entriesByName.getOrDefault(normalize(blockType), defaultEntry).money;
+    }
+
+    // Material ordinals, for compact per-material storage
+
+    // Ordinal of the block's item material; after the first lookup for a state this is one array read
+    public int getMaterialOrdinal(Block block) {
+        int stateId = block.stateId();
+        int ordinal = stateMaterialOrdinals[stateId];
+        if (ordinal < 0) {
+            Material material = block.registry().material();
+            ordinal = getMaterialOrdinal(material != null ? material.name() : block.name());
+            // Racing threads resolve the same ordinal, so a plain write is enough
+            stateMaterialOrdinals[stateId] = ordinal;
+        }
+        return ordinal;
+    }
+
+    public int getMaterialOrdinal(String blockType) {
+        String name = normalize(blockType);
+        Integer ordinal = materialOrdinals.get(name);
+        return ordinal != null ? ordinal : registerMaterial(name);
+    }
+
+    private synchronized int registerMaterial(String name) {
+        Integer existing = materialOrdinals.get(name);
+        if (existing != null) return existing;
+
+        int ordinal = materialNames.length;
+        String[] names = Arrays.copyOf(materialNames, ordinal + 1);
+        double[] prices = Arrays.copyOf(materialSellPrices, ordinal + 1);
+        names[ordinal] = name.indexOf(':') >= 0 ? name : "minecraft:" + name;
+        prices[ordinal] = entriesByName.getOrDefault(name, defaultEntry).sell;
+
+        // Publish the arrays before the ordinal so readers never see an ordinal past their end
+        materialNames = names;
+        materialSellPrices = prices;
+        materialOrdinals.put(name, ordinal);
+        return ordinal;
+    }
+
+    // Namespaced id ("minecraft:stone") for an ordinal, as stored in the database
+    public String getMaterialName(int ordinal) {
+        return materialNames[ordinal];
+    }
+
+    // Sell price per material ordinal; don't modify
+    public double[] getMaterialSellPrices() {
+        return materialSellPrices;
+    }
+
+    // "minecraft:coal_ore", "COAL_ORE" and "coal_ore" all map to "coal_ore"
+    private static String normalize(String blockType) {
+        String name = blockType.toLowerCase(Locale.ROOT);
+        return name.startsWith("minecraft:") ? name.substring(10) : name;
+    }
+
+    private static JsonObject createDefaultConfig() {
+        JsonObject config = new JsonObject();
+        config.add("default", new Entry(1.0, 0.5, 1L, true).toJson());
+
+        Map<String, Entry> blocks = new LinkedHashMap<>();
+        blocks.put("cobblestone", new Entry(1.0, 0.5, 1L, true));
+        blocks.put("stone", new Entry(1.5, 1.0, 1L, true));
+        blocks.put("coal_ore", new Entry(5.0, 5.0, 5L, true));
+        blocks.put("deepslate_coal_ore", new Entry(5.0, 5.0, 5L, true));
+        blocks.put("iron_ore", new Entry(10.0, 10.0, 10L, true));
+        blocks.put("deepslate_iron_ore", new Entry(10.0, 10.0, 10L, true));
+        blocks.put("gold_ore", new Entry(25.0, 25.0, 25L, true));
+        blocks.put("deepslate_gold_ore", new Entry(25.0, 25.0, 25L, true));
+        blocks.put("diamond_ore", new Entry(100.0, 100.0, 50L, true));
+        blocks.put("deepslate_diamond_ore", new Entry(100.0, 100.0, 50L, true));
+        blocks.put("emerald_ore", new Entry(250.0, 250.0, 100L, true));
+        blocks.put("deepslate_emerald_ore", new Entry(250.0, 250.0, 100L, true));
+        blocks.put("obsidian", new Entry(1.0, 0.5, 75L, true));
+        blocks.put("netherite_block", new Entry(1.0, 0.5, 200L, true));
+        blocks.put("bedrock", new Entry(0.0, 0.0, 0L, false));
+        blocks.put("barrier", new Entry(0.0, 0.0, 0L, false));
+        blocks.put("air", new Entry(0.0, 0.0, 0L, false));
+        blocks.put("cave_air", new Entry(0.0, 0.0, 0L, false));
+        blocks.put("void_air", new Entry(0.0, 0.0, 0L, false));
+        blocks.put("water", new Entry(0.0, 0.0, 0L, false));
+        blocks.put("lava", new Entry(0.0, 0.0, 0L, false));
+
+        JsonObject blocksJson = new JsonObject();
+        for (Map.Entry<String, Entry> entry : blocks.entrySet()) {
+            blocksJson.add(entry.getKey(), entry.getValue().toJson());
+        }
+        config.add("blocks", blocksJson);
+        return config;
+    }
+
+    private static class Entry {
+        private final double sell;
+        private final double money;
+        private final long xp;
+        private final boolean mineable;
+
+        private Entry(double sell, double money, long xp, boolean mineable) {
+            this.sell = sell;
+            this.money = money;
+            this.xp = xp;
+            this.mineable = mineable;
+        }
+
+        // Missing fields fall back to the given entry
+        private static Entry fromJson(JsonObject json, Entry fallback) {
+            return new Entry(
+                    json.has("sell") ? json.get("sell").getAsDouble() : fallback.sell,
+                    json.has("money") ? json.get("money").getAsDouble() : fallback.money,
+                    json.has("xp") ? json.get("xp").getAsLong() : fallback.xp,
+                    json.has("mineable") ? json.get("mineable").getAsBoolean() : fallback.mineable
+            );
+        }
+
+        private JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("sell", sell);
+            json.addProperty("money", money);
+            json.addProperty("xp", xp);
+            json.addProperty("mineable", mineable);
+            return json;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package mythic.prison.data.mining;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Accumulates a player's block breaks between two settlements so rewards,
+ * XP, stats and UI updates are applied once per window instead of per block.
+ */
+public class MiningSession {
+    private final String playerUUID;
+
+    private int blocks;
+    private long experience;
+    private double baseReward;
+    // Base reward from blocks broken in the player's own mine (gets the mine multiplier)
+    private double ownMineBaseReward;
+    // Indexed by BlockValueTable material ordinal; reused between windows, only grows for new materials
+    private int[] blockCounts = new int[0];
+    // Enchant payouts by currency, credited as-is at settlement
+    private final Map<String, Double> currencies = new HashMap<>();
+
+    public MiningSession(String playerUUID) {
+        this.playerUUID = playerUUID;
+    }
+
+    public synchronized void recordBreak(int materialOrdinal, long xp, double reward, boolean inOwnMine) {
+        blocks++;
+        experience += xp;
+        if (inOwnMine) {
+            ownMineBaseReward += reward;
+        } else {
+            baseReward += reward;
+        }
+        if (materialOrdinal >= blockCounts.length) {
+            blockCounts = Arrays.copyOf(blockCounts, materialOrdinal + 1);
+        }
+        blockCounts[materialOrdinal]++;
+    }
+
+    public synchronized void addCurrency(String currency, double amount) {
+        if (amount <= 0) return;
+        currencies.merge(currency, amount, Double::sum);
+    }
+
+    public synchronized boolean hasPending() {
+        return blocks > 0 || !currencies.isEmpty();
+    }
+
+    /**
+     * Moves the accumulated totals into the given snapshot and resets this session.
+     */
+    public synchronized void drainTo(Snapshot snapshot) {
+        snapshot.blocks = blocks;
+        snapshot.experience = experience;
+        snapshot.baseReward = baseReward;
+        snapshot.ownMineBaseReward = ownMineBaseReward;
+        if (snapshot.blockCounts.length < blockCounts.length) {
+            snapshot.blockCounts = new int[blockCounts.length];
+        }
+        System.arraycopy(blockCounts, 0, snapshot.blockCounts, 0, blockCounts.length);
+        Arrays.fill(snapshot.blockCounts, blockCounts.length, snapshot.blockCounts.length, 0);
+        Arrays.fill(blockCounts, 0);
+        snapshot.currencies.clear();
+        snapshot.currencies.putAll(currencies);
+        currencies.clear();
+
+        blocks = 0;
+        experience = 0;
+        baseReward = 0;
+        ownMineBaseReward = 0;
+    }
+
+    public String getPlayerUUID() { return playerUUID; }
+
+    // Totals of one settlement window
+    public static class Snapshot {
+        private int blocks;
+        private long experience;
+        private double baseReward;
+        private double ownMineBaseReward;
+        private int[] blockCounts = new int[0];
+        private final Map<String, Double> currencies = new HashMap<>();
+
+        public int getBlocks() { return blocks; }
+        public long getExperience() { return experience; }
+        public double getBaseReward() { return baseReward; }
+        public double getOwnMineBaseReward() { return ownMineBaseReward; }
+        // Indexed by material ordinal, may be longer than the number of materials seen; don't modify
+        public int[] getBlockCounts() { return blockCounts; }
+        // Enchant payouts by currency; don't modify
+        public Map<String, Double> getCurrencies() { return currencies; }
+    }
+}
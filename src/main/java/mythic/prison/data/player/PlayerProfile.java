@@ -1,7 +1,9 @@
 package mythic.prison.data.player;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public class PlayerProfile {
     private final String uuid;
@@ -46,6 +48,12 @@ public class PlayerProfile {
     private boolean autoPrestigeEnabled = false;
     private boolean autoRebirthEnabled = false;
 
+    // Change tracking for delta saves ($inc / $set / $unset), drained by ProfileManager
+    private final Map<String, Number> pendingIncrements = new HashMap<>();
+    private final Set<String> pendingSets = new HashSet<>();
+    private final Set<String> pendingUnsets = new HashSet<>();
+    private boolean persisted = false;
+
     public PlayerProfile(String uuid) {
         this.uuid = uuid;
         this.currencies = new HashMap<>();
@@ -92,22 +100,25 @@ public class PlayerProfile {
         return currencies.getOrDefault(currency, 0.0);
     }
 
-    public void setBalance(String currency, double amount) {
+    public synchronized void setBalance(String currency, double amount) {
         currencies.put(currency, Math.max(0, amount));
+        recordSet("currencies." + currency);
     }
 
-    public boolean addBalance(String currency, double amount) {
+    public synchronized boolean addBalance(String currency, double amount) {
         if (amount < 0) return false;
         double current = getBalance(currency);
-        setBalance(currency, current + amount);
+        currencies.put(currency, current + amount);
+        recordIncrement("currencies." + currency, amount);
         return true;
     }
 
-    public boolean removeBalance(String currency, double amount) {
+    public synchronized boolean removeBalance(String currency, double amount) {
         if (amount < 0) return false;
         double current = getBalance(currency);
         if (current < amount) return false;
-        setBalance(currency, current - amount);
+        currencies.put(currency, current - amount);
+        recordIncrement("currencies." + currency, -amount);
         return true;
     }
 
@@ -118,29 +129,36 @@ public class PlayerProfile {
         return multipliers.getOrDefault(type, 1.0);
     }
 
-    public void setMultiplier(String type, double multiplier, long durationMs) {
+    public synchronized void setMultiplier(String type, double multiplier, long durationMs) {
         multipliers.put(type, multiplier);
         if (durationMs > 0) {
             multiplierExpiry.put(type, System.currentTimeMillis() + durationMs);
         } else {
             multiplierExpiry.remove(type);
         }
+        recordMultipliersChanged();
     }
 
-    public void removeMultiplier(String type) {
+    public synchronized void removeMultiplier(String type) {
         multipliers.remove(type);
         multiplierExpiry.remove(type);
+        recordMultipliersChanged();
     }
 
-    private void cleanExpiredMultipliers() {
+    private synchronized void cleanExpiredMultipliers() {
+        if (multiplierExpiry.isEmpty()) return;
+
         long currentTime = System.currentTimeMillis();
-        multiplierExpiry.entrySet().removeIf(entry -> {
+        boolean removed = multiplierExpiry.entrySet().removeIf(entry -> {
             if (currentTime > entry.getValue()) {
                 multipliers.remove(entry.getKey());
                 return true;
             }
             return false;
         });
+        if (removed) {
+            recordMultipliersChanged();
+        }
     }
 
     public boolean hasActiveMultiplier(String type) {
@@ -157,8 +175,10 @@ public class PlayerProfile {
     }
 
     // Custom data methods
-    public void setCustomData(String key, Object value) {
+    public synchronized void setCustomData(String key, Object value) {
         customData.put(key, value);
+        pendingUnsets.remove("customData." + key);
+        recordSet("customData." + key);
     }
 
     @SuppressWarnings("unchecked")
@@ -174,25 +194,143 @@ public class PlayerProfile {
         return customData.get(key);
     }
 
-    public void removeCustomData(String key) {
+    public synchronized void removeCustomData(String key) {
         customData.remove(key);
+        pendingSets.remove("customData." + key);
+        pendingUnsets.add("customData." + key);
+    }
+
+    // Change tracking
+    private void recordSet(String path) {
+        // An absolute value supersedes any pending delta for the same path
+        pendingIncrements.remove(path);
+        pendingSets.add(path);
+    }
+
+    private void recordIncrement(String path, double delta) {
+        if (pendingSets.contains(path)) return; // the $set will carry the new value
+        Number current = pendingIncrements.get(path);
+        pendingIncrements.put(path, current == null ? delta : current.doubleValue() + delta);
+    }
+
+    private void recordIncrement(String path, long delta) {
+        if (pendingSets.contains(path)) return;
+        Number current = pendingIncrements.get(path);
+        if (current == null || current instanceof Long) {
+            pendingIncrements.put(path, current == null ? delta : current.longValue() + delta);
+        } else {
+            pendingIncrements.put(path, current.doubleValue() + delta);
+        }
+    }
+
+    private void recordMultipliersChanged() {
+        pendingSets.add("multipliers");
+        pendingSets.add("multiplierExpiry");
+    }
+
+    /**
+     * Returns the changes recorded since the last drain and clears them.
+     * $set values are captured here so they are consistent with the increments.
+     */
+    public synchronized ProfileChanges drainChanges() {
+        Map<String, Object> sets = new HashMap<>();
+        for (String path : pendingSets) {
+            sets.put(path, currentValue(path));
+        }
+        ProfileChanges changes = new ProfileChanges(pendingIncrements, sets, pendingUnsets);
+        pendingIncrements.clear();
+        pendingSets.clear();
+        pendingUnsets.clear();
+        return changes;
+    }
+
+    /**
+     * Puts back changes whose write failed so the next save retries them. A failed write may
+     * still have been applied, so increments come back as $sets of the current value and the
+     * retry is safe to apply twice.
+     */
+    public synchronized void requeueChanges(ProfileChanges changes) {
+        for (String path : changes.getIncrements().keySet()) {
+            if (!pendingUnsets.contains(path)) {
+                recordSet(path);
+            }
+        }
+        for (String path : changes.getSets().keySet()) {
+            if (!pendingUnsets.contains(path)) {
+                recordSet(path);
+            }
+        }
+        for (String path : changes.getUnsets()) {
+            if (!pendingSets.contains(path)) {
+                pendingUnsets.add(path);
+            }
+        }
+    }
+
+    public synchronized boolean hasPendingChanges() {
+        return !pendingIncrements.isEmpty() || !pendingSets.isEmpty() || !pendingUnsets.isEmpty();
+    }
+
+    // A persisted profile has a full document in the database, so deltas can be applied to it
+    public synchronized boolean isPersisted() { return persisted; }
+
+    public synchronized void markPersisted() {
+        persisted = true;
+        pendingIncrements.clear();
+        pendingSets.clear();
+        pendingUnsets.clear();
+    }
+
+    public synchronized void markNotPersisted() {
+        persisted = false;
+    }
+
+    private Object currentValue(String path) {
+        if (path.startsWith("currencies.")) {
+            return currencies.getOrDefault(path.substring("currencies.".length()), 0.0);
+        }
+        if (path.startsWith("customData.")) {
+            return customData.get(path.substring("customData.".length()));
+        }
+        return switch (path) {
+            case "username" -> username;
+            case "lastSeen" -> lastSeen;
+            case "currentRank" -> currentRank;
+            case "prestige" -> prestige;
+            case "rebirth" -> rebirth;
+            case "totalPlaytime" -> totalPlaytime;
+            case "blocksMined" -> blocksMined;
+            case "monstersKilled" -> monstersKilled;
+            case "totalMoneyEarned" -> totalMoneyEarned;
+            case "commandsUsed" -> commandsUsed;
+            case "deathCount" -> deathCount;
+            case "multipliers" -> new HashMap<>(multipliers);
+            case "multiplierExpiry" -> new HashMap<>(multiplierExpiry);
+            case "autoSellEnabled" -> autoSellEnabled;
+            case "pvpEnabled" -> pvpEnabled;
+            case "chatEnabled" -> chatEnabled;
+            case "language" -> language;
+            case "gangId" -> gangId;
+            case "gangRank" -> gangRank;
+            default -> null;
+        };
     }
 
     // Getters and Setters
     public String getUuid() { return uuid; }
     public String getUsername() { return username; }
-    public void setUsername(String username) { this.username = username; }
+    public synchronized void setUsername(String username) { this.username = username; recordSet("username"); }
     public long getLastSeen() { return lastSeen; }
-    public void setLastSeen(long lastSeen) { this.lastSeen = lastSeen; }
+    public synchronized void setLastSeen(long lastSeen) { this.lastSeen = lastSeen; recordSet("lastSeen"); }
 
-    public Map<String, Double> getCurrencies() { return new HashMap<>(currencies); }
+    public synchronized Map<String, Double> getCurrencies() { return new HashMap<>(currencies); }
 
     public String getCurrentRank() { return currentRank; }
-    public void setCurrentRank(String currentRank) { this.currentRank = currentRank; }
+    public synchronized void setCurrentRank(String currentRank) { this.currentRank = currentRank; recordSet("currentRank"); }
     public int getPrestige() { return prestige; }
-    public void setPrestige(int prestige) { this.prestige = prestige; }
+    public synchronized void setPrestige(int prestige) { this.prestige = prestige; recordSet("prestige"); }
     public int getRebirth() { return rebirth; }
-    public void setRebirth(int rebirth) { this.rebirth = rebirth; }
+    public synchronized void setRebirth(int rebirth) { this.rebirth = rebirth; recordSet("rebirth"); }
     public int getAscension() {
         return ascension;
     }
@@ -201,43 +339,43 @@ public class PlayerProfile {
         this.ascension = Math.max(0, ascension);
     }
     public long getTotalPlaytime() { return totalPlaytime; }
-    public void setTotalPlaytime(long totalPlaytime) { this.totalPlaytime = totalPlaytime; }
-    public void addPlaytime(long playtime) { this.totalPlaytime += playtime; }
+    public synchronized void setTotalPlaytime(long totalPlaytime) { this.totalPlaytime = totalPlaytime; recordSet("totalPlaytime"); }
+    public synchronized void addPlaytime(long playtime) { this.totalPlaytime += playtime; recordIncrement("totalPlaytime", playtime); }
 
     public long getBlocksMined() { return blocksMined; }
-    public void setBlocksMined(long blocksMined) { this.blocksMined = blocksMined; }
-    public void addBlocksMined(long blocks) { this.blocksMined += blocks; }
+    public synchronized void setBlocksMined(long blocksMined) { this.blocksMined = blocksMined; recordSet("blocksMined"); }
+    public synchronized void addBlocksMined(long blocks) { this.blocksMined += blocks; recordIncrement("blocksMined", blocks); }
     public long getMonstersKilled() { return monstersKilled; }
-    public void setMonstersKilled(long monstersKilled) { this.monstersKilled = monstersKilled; }
-    public void addMonstersKilled(long monsters) { this.monstersKilled += monsters; }
+    public synchronized void setMonstersKilled(long monstersKilled) { this.monstersKilled = monstersKilled; recordSet("monstersKilled"); }
+    public synchronized void addMonstersKilled(long monsters) { this.monstersKilled += monsters; recordIncrement("monstersKilled", monsters); }
     public double getTotalMoneyEarned() { return totalMoneyEarned; }
-    public void setTotalMoneyEarned(double totalMoneyEarned) { this.totalMoneyEarned = totalMoneyEarned; }
-    public void addMoneyEarned(double money) { this.totalMoneyEarned += money; }
+    public synchronized void setTotalMoneyEarned(double totalMoneyEarned) { this.totalMoneyEarned = totalMoneyEarned; recordSet("totalMoneyEarned"); }
+    public synchronized void addMoneyEarned(double money) { this.totalMoneyEarned += money; recordIncrement("totalMoneyEarned", money); }
     public long getCommandsUsed() { return commandsUsed; }
-    public void setCommandsUsed(long commandsUsed) { this.commandsUsed = commandsUsed; }
-    public void addCommandUsed() { this.commandsUsed++; }
+    public synchronized void setCommandsUsed(long commandsUsed) { this.commandsUsed = commandsUsed; recordSet("commandsUsed"); }
+    public synchronized void addCommandUsed() { this.commandsUsed++; recordIncrement("commandsUsed", 1L); }
     public long getDeathCount() { return deathCount; }
-    public void setDeathCount(long deathCount) { this.deathCount = deathCount; }
-    public void addDeath() { this.deathCount++; }
+    public synchronized void setDeathCount(long deathCount) { this.deathCount = deathCount; recordSet("deathCount"); }
+    public synchronized void addDeath() { this.deathCount++; recordIncrement("deathCount", 1L); }
 
-    public Map<String, Double> getMultipliers() { return new HashMap<>(multipliers); }
-    public Map<String, Long> getMultiplierExpiry() { return new HashMap<>(multiplierExpiry); }
+    public synchronized Map<String, Double> getMultipliers() { return new HashMap<>(multipliers); }
+    public synchronized Map<String, Long> getMultiplierExpiry() { return new HashMap<>(multiplierExpiry); }
 
     public boolean isAutoSellEnabled() { return autoSellEnabled; }
-    public void setAutoSellEnabled(boolean autoSellEnabled) { this.autoSellEnabled = autoSellEnabled; }
+    public synchronized void setAutoSellEnabled(boolean autoSellEnabled) { this.autoSellEnabled = autoSellEnabled; recordSet("autoSellEnabled"); }
     public boolean isPvpEnabled() { return pvpEnabled; }
-    public void setPvpEnabled(boolean pvpEnabled) { this.pvpEnabled = pvpEnabled; }
+    public synchronized void setPvpEnabled(boolean pvpEnabled) { this.pvpEnabled = pvpEnabled; recordSet("pvpEnabled"); }
     public boolean isChatEnabled() { return chatEnabled; }
-    public void setChatEnabled(boolean chatEnabled) { this.chatEnabled = chatEnabled; }
+    public synchronized void setChatEnabled(boolean chatEnabled) { this.chatEnabled = chatEnabled; recordSet("chatEnabled"); }
     public String getLanguage() { return language; }
-    public void setLanguage(String language) { this.language = language; }
+    public synchronized void setLanguage(String language) { this.language = language; recordSet("language"); }
 
     public String getGangId() { return gangId; }
-    public void setGangId(String gangId) { this.gangId = gangId; }
+    public synchronized void setGangId(String gangId) { this.gangId = gangId; recordSet("gangId"); }
     public String getGangRank() { return gangRank; }
-    public void setGangRank(String gangRank) { this.gangRank = gangRank; }
+    public synchronized void setGangRank(String gangRank) { this.gangRank = gangRank; recordSet("gangRank"); }
 
-    public Map<String, Object> getCustomData() { return new HashMap<>(customData); }
+    public synchronized Map<String, Object> getCustomData() { return new HashMap<>(customData); }
 
     // Add these getter/setter methods
     public boolean isAutoPrestigeEnabled() { return autoPrestigeEnabled; }
@@ -0,0 +1,31 @@
+package mythic.prison.data.player;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot of the fields that changed on a PlayerProfile since the last save.
+ * Keys are document paths (e.g. "blocksMined", "currencies.money").
+ */
+public class ProfileChanges {
+    private final Map<String, Number> increments;
+    private final Map<String, Object> sets;
+    private final Set<String> unsets;
+
+    public ProfileChanges(Map<String, Number> increments, Map<String, Object> sets, Set<String> unsets) {
+        this.increments = new HashMap<>(increments);
+        this.sets = new HashMap<>(sets);
+        this.unsets = new HashSet<>(unsets);
+    }
+
+    public boolean isEmpty() {
+        return increments.isEmpty() && sets.isEmpty() && unsets.isEmpty();
+    }
+
+    // Getters
+    public Map<String, Number> getIncrements() { return increments; }
+    public Map<String, Object> getSets() { return sets; }
+    public Set<String> getUnsets() { return unsets; }
+}
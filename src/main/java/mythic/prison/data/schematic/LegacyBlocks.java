@@ -0,0 +1,103 @@
+package mythic.prison.data.schematic;
+
+import net.minestom.server.instance.block.Block;
+
+/**
+ * Maps pre-1.13 numeric block ids and data values (MCEdit "Alpha" schematics) to modern block states.
+ * Colours, stone/plank/log variants, stair facing, slab halves and log axes are kept; other
+ * orientation data falls back to the block's default state.
+ */
+final class LegacyBlocks {
+    private static final String[] COLORS = {
+            "white", "orange", "magenta", "light_blue", "yellow", "lime", "pink", "gray",
+            "light_gray", "cyan", "purple", "blue", "brown", "green", "red", "black"
+    };
+    private static final String[] WOODS = {"oak", "spruce", "birch", "jungle", "acacia", "dark_oak"};
+    private static final String[] STONE_SLABS = {
+            "smooth_stone", "sandstone", "petrified_oak", "cobblestone", "brick", "stone_brick", "nether_brick", "quartz"
+    };
+    private static final String[] STAIR_FACING = {"east", "west", "south", "north"};
+
+    private static final String[] NAMES = new String[256];
+
+    static {
+        String[] names = {
+                "air", "stone", "grass_block", "dirt", "cobblestone", "oak_planks", "oak_sapling", "bedrock",
+                "water", "water", "lava", "lava", "sand", "gravel", "gold_ore", "iron_ore",
+                "coal_ore", "oak_log", "oak_leaves", "sponge", "glass", "lapis_ore", "lapis_block", "dispenser",
+                "sandstone", "note_block", "red_bed", "powered_rail", "detector_rail", "sticky_piston", "cobweb", "short_grass",
+                "dead_bush", "piston", "piston_head", "white_wool", "moving_piston", "dandelion", "poppy", "brown_mushroom",
+                "red_mushroom", "gold_block", "iron_block", "smooth_stone_slab", "smooth_stone_slab", "bricks", "tnt", "bookshelf",
+                "mossy_cobblestone", "obsidian", "torch", "fire", "spawner", "oak_stairs", "chest", "redstone_wire",
+                "diamond_ore", "diamond_block", "crafting_table", "wheat", "farmland", "furnace", "furnace", "oak_sign",
+                "oak_door", "ladder", "rail", "cobblestone_stairs", "oak_wall_sign", "lever", "stone_pressure_plate", "iron_door",
+                "oak_pressure_plate", "redstone_ore", "redstone_ore", "redstone_torch", "redstone_torch", "stone_button", "snow", "ice",
+                "snow_block", "cactus", "clay", "sugar_cane", "jukebox", "oak_fence", "carved_pumpkin", "netherrack",
+                "soul_sand", "glowstone", "nether_portal", "jack_o_lantern", "cake", "repeater", "repeater", "white_stained_glass",
+                "oak_trapdoor", "infested_stone", "stone_bricks", "brown_mushroom_block", "red_mushroom_block", "iron_bars", "glass_pane", "melon",
+                "pumpkin_stem", "melon_stem", "vine", "oak_fence_gate", "brick_stairs", "stone_brick_stairs", "mycelium", "lily_pad",
+                "nether_bricks", "nether_brick_fence", "nether_brick_stairs", "nether_wart", "enchanting_table", "brewing_stand", "cauldron", "end_portal",
+                "end_portal_frame", "end_stone", "dragon_egg", "redstone_lamp", "redstone_lamp", "oak_slab", "oak_slab", "cocoa",
+                "sandstone_stairs", "emerald_ore", "ender_chest", "tripwire_hook", "tripwire", "emerald_block", "spruce_stairs", "birch_stairs",
+                "jungle_stairs", "command_block", "beacon", "cobblestone_wall", "flower_pot", "carrots", "potatoes", "oak_button",
+                "skeleton_skull", "anvil", "trapped_chest", "light_weighted_pressure_plate", "heavy_weighted_pressure_plate", "comparator", "comparator", "daylight_detector",
+                "redstone_block", "nether_quartz_ore", "hopper", "quartz_block", "quartz_stairs", "activator_rail", "dropper", "white_terracotta",
+                "white_stained_glass_pane", "acacia_leaves", "acacia_log", "acacia_stairs", "dark_oak_stairs", "slime_block", "barrier", "iron_trapdoor",
+                "prismarine", "sea_lantern", "hay_block", "white_carpet", "terracotta", "coal_block", "packed_ice", "sunflower"
+        };
+        System.arraycopy(names, 0, NAMES, 0, names.length);
+    }
+
+    private LegacyBlocks() {
+    }
+
+    /** @return the modern block, or null if the id is unknown */
+    static Block toBlock(int id, int data) {
+        String state = toState(id, data & 15);
+        return state != null ? Block.fromState(state) : null;
+    }
+
+    private static String toState(int id, int data) {
+        if (id < 0 || id >= NAMES.length || NAMES[id] == null) return null;
+
+        return switch (id) {
+            case 1 -> "minecraft:" + new String[]{"stone", "granite", "polished_granite", "diorite",
+                    "polished_diorite", "andesite", "polished_andesite"}[Math.min(data, 6)];
+            case 3 -> "minecraft:" + (data == 1 ? "coarse_dirt" : data == 2 ? "podzol" : "dirt");
+            case 5 -> "minecraft:" + WOODS[Math.min(data, 5)] + "_planks";
+            case 6 -> "minecraft:" + WOODS[Math.min(data & 7, 5)] + "_sapling";
+            case 12 -> "minecraft:" + (data == 1 ? "red_sand" : "sand");
+            case 17 -> "minecraft:" + WOODS[data & 3] + "_log" + logAxis(data);
+            case 162 -> "minecraft:" + WOODS[4 + (data & 1)] + "_log" + logAxis(data);
+            case 18 -> "minecraft:" + WOODS[data & 3] + "_leaves";
+            case 161 -> "minecraft:" + WOODS[4 + (data & 1)] + "_leaves";
+            case 24 -> "minecraft:" + (data == 1 ? "chiseled_sandstone" : data == 2 ? "cut_sandstone" : "sandstone");
+            case 31 -> "minecraft:" + (data == 2 ? "fern" : data == 0 ? "dead_bush" : "short_grass");
+            case 35 -> "minecraft:" + COLORS[data] + "_wool";
+            case 95 -> "minecraft:" + COLORS[data] + "_stained_glass";
+            case 159 -> "minecraft:" + COLORS[data] + "_terracotta";
+            case 160 -> "minecraft:" + COLORS[data] + "_stained_glass_pane";
+            case 171 -> "minecraft:" + COLORS[data] + "_carpet";
+            case 43 -> "minecraft:" + STONE_SLABS[data & 7] + "_slab[type=double]";
+            case 44 -> "minecraft:" + STONE_SLABS[data & 7] + "_slab[type=" + ((data & 8) != 0 ? "top" : "bottom") + "]";
+            case 125 -> "minecraft:" + WOODS[Math.min(data & 7, 5)] + "_slab[type=double]";
+            case 126 -> "minecraft:" + WOODS[Math.min(data & 7, 5)] + "_slab[type=" + ((data & 8) != 0 ? "top" : "bottom") + "]";
+            case 53, 67, 108, 109, 114, 128, 134, 135, 136, 156, 163, 164 -> "minecraft:" + NAMES[id]
+                    + "[facing=" + STAIR_FACING[data & 3] + ",half=" + ((data & 4) != 0 ? "top" : "bottom") + "]";
+            case 98 -> "minecraft:" + new String[]{"stone_bricks", "mossy_stone_bricks", "cracked_stone_bricks",
+                    "chiseled_stone_bricks"}[data & 3];
+            case 139 -> "minecraft:" + (data == 1 ? "mossy_cobblestone_wall" : "cobblestone_wall");
+            case 155 -> "minecraft:" + (data == 1 ? "chiseled_quartz_block" : data >= 2 ? "quartz_pillar" : "quartz_block");
+            case 168 -> "minecraft:" + (data == 1 ? "prismarine_bricks" : data == 2 ? "dark_prismarine" : "prismarine");
+            default -> "minecraft:" + NAMES[id];
+        };
+    }
+
+    private static String logAxis(int data) {
+        return switch ((data >> 2) & 3) {
+            case 1 -> "[axis=x]";
+            case 2 -> "[axis=z]";
+            default -> "[axis=y]";
+        };
+    }
+}
@@ -0,0 +1,259 @@
+package mythic.prison.data.schematic;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.DynamicChunk;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.world.DimensionType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * A schematic compiled into world-aligned chunk sections of block state ids, cached in data/cache
+ * and memory-mapped on later starts. The cache is rebuilt when the .schem file or the protocol
+ * version changes.
+ *
+ * The template is stamped once into a prototype instance that is never registered. Worlds made
+ * from it get {@link TemplateChunk}s that share the prototype's sections until they are changed,
+ * so an untouched world costs little more than its chunk objects.
+ *
+ * File layout (big-endian): header, section table, then 4096 u16 state ids per non-uniform section.
+ */
+public final class SchematicTemplate {
+    private static final int MAGIC = 0x4D505431; // "MPT1"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 * 3 + 8 * 2 + 4 * 6 + 8 * 3 + 4;
+    private static final int ENTRY_SIZE = 4 * 5;
+    private static final int SECTION_BYTES = SpongeSchematic.SECTION_VOLUME * 2;
+
+    private final String name;
+    private final ByteBuffer data;
+    private final int minX, minY, minZ, maxX, maxY, maxZ;
+    private final Pos spawnPoint;
+    private final int sectionCount;
+    private final int dataStart;
+
+    private InstanceContainer prototype;
+
+    private SchematicTemplate(String name, ByteBuffer data) {
+        this.name = name;
+        this.data = data;
+        this.minX = data.getInt(28);
+        this.minY = data.getInt(32);
+        this.minZ = data.getInt(36);
+        this.maxX = data.getInt(40);
+        this.maxY = data.getInt(44);
+        this.maxZ = data.getInt(48);
+        this.spawnPoint = new Pos(data.getDouble(52), data.getDouble(60), data.getDouble(68));
+        this.sectionCount = data.getInt(76);
+        this.dataStart = HEADER_SIZE + sectionCount * ENTRY_SIZE;
+    }
+
+    /**
+     * Maps the cached template for the schematic, compiling and caching it first if needed.
+     * If the cache can't be written the compiled template is kept on the heap instead.
+     */
+    public static SchematicTemplate load(File schematicFile, File cacheFolder) throws IOException {
+        String name = schematicFile.getName().replaceFirst("\\.schem$", "");
+        File cacheFile = new File(cacheFolder, name + ".mpt");
+
+        ByteBuffer cached = map(cacheFile);
+        if (cached != null && isCurrent(cached, schematicFile)) {
+            SchematicTemplate template = new SchematicTemplate(name, cached);
+            System.out.println("[SchematicTemplate] Mapped " + cacheFile.getPath() + " (" + template.sectionCount + " sections)");
+            return template;
+        }
+
+        long start = System.nanoTime();
+        byte[] compiled = compile(SpongeSchematicReader.read(schematicFile), schematicFile);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        try {
+            cacheFolder.mkdirs();
+            File temp = new File(cacheFolder, name + ".mpt.tmp");
+            Files.write(temp.toPath(), compiled);
+            Files.move(temp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            ByteBuffer mapped = map(cacheFile);
+            if (mapped != null) {
+                System.out.println("[SchematicTemplate] Compiled " + schematicFile.getName() + " into " + cacheFile.getPath()
+                        + " (" + compiled.length / 1024 + " KB) in " + elapsed + "ms");
+                return new SchematicTemplate(name, mapped);
+            }
+        } catch (IOException e) {
+            System.err.println("[SchematicTemplate] Could not cache " + name + ", keeping it in memory: " + e.getMessage());
+        }
+        return new SchematicTemplate(name, ByteBuffer.wrap(compiled));
+    }
+
+    private static ByteBuffer map(File file) {
+        if (!file.isFile() || file.length() < HEADER_SIZE) return null;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            System.err.println("[SchematicTemplate] Failed to map " + file.getPath() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isCurrent(ByteBuffer buffer, File schematicFile) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) return false;
+        if (buffer.getInt(8) != MinecraftServer.PROTOCOL_VERSION) return false;
+        if (buffer.getLong(12) != schematicFile.length() || buffer.getLong(20) != schematicFile.lastModified()) return false;
+
+        int sections = buffer.getInt(76);
+        int dataSections = 0;
+        for (int i = 0; i < sections; i++) {
+            if (buffer.getInt(HEADER_SIZE + i * ENTRY_SIZE + 12) < 0) dataSections++;
+        }
+        return buffer.capacity() == HEADER_SIZE + (long) sections * ENTRY_SIZE + (long) dataSections * SECTION_BYTES;
+    }
+
+    private static byte[] compile(SpongeSchematic schematic, File source) throws IOException {
+        // Section table and section data are written separately, then joined
+        ByteArrayOutputStream tableBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream sectionBytes = new ByteArrayOutputStream();
+        DataOutputStream table = new DataOutputStream(tableBytes);
+        DataOutputStream sections = new DataOutputStream(sectionBytes);
+        int[] counts = new int[2]; // sections, data sections
+
+        schematic.forEachWorldSection((chunkX, sectionY, chunkZ, states) -> {
+            table.writeInt(chunkX);
+            table.writeInt(sectionY);
+            table.writeInt(chunkZ);
+
+            int uniform = states[0];
+            for (int i = 1; i < states.length && uniform >= 0; i++) {
+                if (states[i] != uniform) uniform = -1;
+            }
+            if (uniform >= 0) {
+                table.writeInt(uniform);
+                table.writeInt(0);
+            } else {
+                table.writeInt(-1);
+                table.writeInt(counts[1]++);
+                for (int state : states) {
+                    sections.writeShort(state);
+                }
+            }
+            counts[0]++;
+        });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_SIZE + tableBytes.size() + sectionBytes.size());
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeInt(FORMAT_VERSION);
+        header.writeInt(MinecraftServer.PROTOCOL_VERSION);
+        header.writeLong(source.length());
+        header.writeLong(source.lastModified());
+        header.writeInt(schematic.getMinX());
+        header.writeInt(schematic.getMinY());
+        header.writeInt(schematic.getMinZ());
+        header.writeInt(schematic.getMaxX());
+        header.writeInt(schematic.getMaxY());
+        header.writeInt(schematic.getMaxZ());
+        Pos spawn = schematic.getSpawnPoint();
+        header.writeDouble(spawn.x());
+        header.writeDouble(spawn.y());
+        header.writeDouble(spawn.z());
+        header.writeInt(counts[0]);
+        tableBytes.writeTo(out);
+        sectionBytes.writeTo(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Creates and registers a new instance whose chunks are copy-on-write views of the template.
+     * Chunks are only created once something loads them.
+     */
+    public InstanceContainer createInstance() {
+        InstanceContainer source = getPrototype();
+
+        InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer(DimensionType.OVERWORLD);
+        instance.setChunkSupplier((owner, chunkX, chunkZ) -> {
+            Chunk template = source.getChunk(chunkX, chunkZ);
+            return template != null
+                    ? new TemplateChunk(owner, chunkX, chunkZ, template)
+                    : new DynamicChunk(owner, chunkX, chunkZ);
+        });
+        return instance;
+    }
+
+    private synchronized InstanceContainer getPrototype() {
+        if (prototype == null) {
+            prototype = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD);
+            stampInto(prototype);
+        }
+        return prototype;
+    }
+
+    // Writes the sections into the chunks' palettes directly: uniform sections with fill, the rest in one setAll pass
+    private void stampInto(InstanceContainer instance) {
+        long start = System.nanoTime();
+        Chunk chunk = null;
+
+        for (int i = 0; i < sectionCount; i++) {
+            int entry = HEADER_SIZE + i * ENTRY_SIZE;
+            int chunkX = data.getInt(entry), sectionY = data.getInt(entry + 4), chunkZ = data.getInt(entry + 8);
+            int uniform = data.getInt(entry + 12);
+
+            // Sections are written chunk by chunk
+            if (chunk == null || chunk.getChunkX() != chunkX || chunk.getChunkZ() != chunkZ) {
+                if (chunk != null) chunk.invalidate();
+                chunk = instance.loadChunk(chunkX, chunkZ).join();
+            }
+            if (sectionY < chunk.getMinSection() || sectionY >= chunk.getMaxSection()) continue;
+
+            Palette blocks = chunk.getSection(sectionY).blockPalette();
+            if (uniform >= 0) {
+                blocks.fill(uniform);
+            } else {
+                int base = dataStart + data.getInt(entry + 16) * SECTION_BYTES;
+                blocks.setAll((x, y, z) -> data.getChar(base + ((y << 8 | z << 4 | x) << 1)));
+            }
+        }
+        if (chunk != null) chunk.invalidate();
+
+        System.out.println("[SchematicTemplate] Built " + name + " prototype from " + sectionCount + " sections in "
+                + (System.nanoTime() - start) / 1_000_000 + "ms");
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMinZ() {
+        return minZ;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    public int getMaxZ() {
+        return maxZ;
+    }
+
+    public Pos getSpawnPoint() {
+        return spawnPoint;
+    }
+}
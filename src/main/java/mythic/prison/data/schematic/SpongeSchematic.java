@@ -0,0 +1,212 @@
+package mythic.prison.data.schematic;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.block.Block;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Block volume read from a .schem file. Blocks are kept as palette indices in 16x16x16
+ * sections on the schematic's own grid; sections that are entirely air are never allocated.
+ */
+public class SpongeSchematic {
+    static final int SECTION_VOLUME = 16 * 16 * 16;
+
+    private final int width, height, length;
+    private final int sectionsX, sectionsY, sectionsZ;
+    private final short[][] sections;
+    private Block[] palette = new Block[0];
+    private int airIndex = -1;
+
+    // Placement relative to the WorldEdit copy origin, which we paste at x=0, z=0
+    private int offsetX, offsetY, offsetZ;
+    private int originY;
+
+    SpongeSchematic(int width, int height, int length) {
+        this.width = width;
+        this.height = height;
+        this.length = length;
+        this.sectionsX = (width + 15) >> 4;
+        this.sectionsY = (height + 15) >> 4;
+        this.sectionsZ = (length + 15) >> 4;
+        this.sections = new short[sectionsX * sectionsY * sectionsZ][];
+    }
+
+    void setPalette(Block[] palette, int airIndex) {
+        this.palette = palette;
+        this.airIndex = airIndex;
+    }
+
+    void setPlacement(int offsetX, int offsetY, int offsetZ, int originY) {
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.offsetZ = offsetZ;
+        this.originY = originY;
+    }
+
+    // Called by the reader for every block, in Sponge order (x, then z, then y)
+    void set(int x, int y, int z, int paletteIndex) {
+        int section = sectionIndex(x >> 4, y >> 4, z >> 4);
+        short[] blocks = sections[section];
+        if (blocks == null) {
+            if (paletteIndex == airIndex) return;
+            blocks = new short[SECTION_VOLUME];
+            if (airIndex > 0) Arrays.fill(blocks, (short) airIndex);
+            sections[section] = blocks;
+        }
+        blocks[((y & 15) << 8) | ((z & 15) << 4) | (x & 15)] = (short) paletteIndex;
+    }
+
+    int get(int x, int y, int z) {
+        short[] blocks = sections[sectionIndex(x >> 4, y >> 4, z >> 4)];
+        if (blocks == null) return airIndex;
+        return blocks[((y & 15) << 8) | ((z & 15) << 4) | (x & 15)] & 0xFFFF;
+    }
+
+    /**
+     * Walks the world-aligned 16x16x16 sections covered by the schematic at its placement, handing
+     * each one that holds any non-air block to the consumer as block state ids (index y << 8 | z << 4 | x).
+     * The array is reused between calls.
+     */
+    void forEachWorldSection(SectionConsumer consumer) throws IOException {
+        int[] stateIds = new int[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            stateIds[i] = palette[i] != null ? palette[i].stateId() : 0;
+        }
+
+        int minX = getMinX(), minY = getMinY(), minZ = getMinZ();
+        int maxX = getMaxX(), maxY = getMaxY(), maxZ = getMaxZ();
+        int[] states = new int[SECTION_VOLUME];
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                int x0 = Math.max(minX, chunkX << 4), x1 = Math.min(maxX, (chunkX << 4) + 15);
+                int z0 = Math.max(minZ, chunkZ << 4), z1 = Math.min(maxZ, (chunkZ << 4) + 15);
+
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    int y0 = Math.max(minY, sectionY << 4), y1 = Math.min(maxY, (sectionY << 4) + 15);
+                    if (!hasBlocks(x0 - minX, y0 - minY, z0 - minZ, x1 - minX, y1 - minY, z1 - minZ)) continue;
+
+                    Arrays.fill(states, 0);
+                    boolean any = false;
+                    for (int y = y0; y <= y1; y++) {
+                        for (int z = z0; z <= z1; z++) {
+                            for (int x = x0; x <= x1; x++) {
+                                int index = get(x - minX, y - minY, z - minZ);
+                                if (index == airIndex || index < 0 || index >= stateIds.length || stateIds[index] == 0) continue;
+                                states[((y & 15) << 8) | ((z & 15) << 4) | (x & 15)] = stateIds[index];
+                                any = true;
+                            }
+                        }
+                    }
+                    if (any) {
+                        consumer.accept(chunkX, sectionY, chunkZ, states);
+                    }
+                }
+            }
+        }
+    }
+
+    interface SectionConsumer {
+        void accept(int chunkX, int sectionY, int chunkZ, int[] states) throws IOException;
+    }
+
+    // Whether any schematic section overlapping the local box was allocated
+    private boolean hasBlocks(int x0, int y0, int z0, int x1, int y1, int z1) {
+        for (int sy = y0 >> 4; sy <= y1 >> 4; sy++) {
+            for (int sz = z0 >> 4; sz <= z1 >> 4; sz++) {
+                for (int sx = x0 >> 4; sx <= x1 >> 4; sx++) {
+                    if (sections[sectionIndex(sx, sy, sz)] != null) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int sectionIndex(int sx, int sy, int sz) {
+        return (sy * sectionsZ + sz) * sectionsX + sx;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getMinX() {
+        return offsetX;
+    }
+
+    public int getMinY() {
+        return originY + offsetY;
+    }
+
+    public int getMinZ() {
+        return offsetZ;
+    }
+
+    public int getMaxX() {
+        return getMinX() + width - 1;
+    }
+
+    public int getMaxY() {
+        return getMinY() + height - 1;
+    }
+
+    public int getMaxZ() {
+        return getMinZ() + length - 1;
+    }
+
+    /**
+     * Where the builder stood when copying, if that spot is standable. Otherwise the nearest
+     * standable height above (then below) it in the same column, or the top of the build.
+     */
+    public Pos getSpawnPoint() {
+        int x = -offsetX, z = -offsetZ;
+        if (x < 0 || x >= width || z < 0 || z >= length) {
+            // The copy origin is outside the footprint; use the centre column instead
+            x = width / 2;
+            z = length / 2;
+        }
+
+        int start = Math.max(1, Math.min(height, originY - getMinY()));
+        for (int y = start; y <= height; y++) {
+            if (canStand(x, y, z)) return new Pos(getMinX() + x + 0.5, getMinY() + y, getMinZ() + z + 0.5);
+        }
+        for (int y = start - 1; y > 0; y--) {
+            if (canStand(x, y, z)) return new Pos(getMinX() + x + 0.5, getMinY() + y, getMinZ() + z + 0.5);
+        }
+        return new Pos(getMinX() + x + 0.5, getMaxY() + 1, getMinZ() + z + 0.5);
+    }
+
+    private boolean canStand(int x, int y, int z) {
+        return isOccupied(x, y - 1, z) && !isOccupied(x, y, z) && !isOccupied(x, y + 1, z);
+    }
+
+    private boolean isOccupied(int x, int y, int z) {
+        if (y < 0 || y >= height) return false;
+        int index = get(x, y, z);
+        if (index == airIndex || index < 0 || index >= palette.length) return false;
+        Block block = palette[index];
+        return block != null && !block.isAir();
+    }
+
+    public int getAllocatedSections() {
+        int allocated = 0;
+        for (short[] section : sections) {
+            if (section != null) allocated++;
+        }
+        return allocated;
+    }
+
+    public int getTotalSections() {
+        return sections.length;
+    }
+}
@@ -0,0 +1,450 @@
+package mythic.prison.data.schematic;
+
+import net.minestom.server.instance.block.Block;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streaming reader for Sponge schematic v2 and v3 (.schem) files, plus the legacy MCEdit/WorldEdit
+ * format that older builds were saved in under the same extension.
+ *
+ * The gzip'd NBT is walked tag by tag; only the fields we need are kept and everything else
+ * (block entities, entities, biomes) is skipped without being decoded. The varint block data is
+ * decoded from a small buffer straight into SpongeSchematic's section arrays. Block data that
+ * arrives before the dimensions (always the case for legacy files) is buffered and decoded at the end.
+ */
+public final class SpongeSchematicReader {
+    private static final int TAG_END = 0, TAG_BYTE = 1, TAG_SHORT = 2, TAG_INT = 3, TAG_LONG = 4,
+            TAG_FLOAT = 5, TAG_DOUBLE = 6, TAG_BYTE_ARRAY = 7, TAG_STRING = 8, TAG_LIST = 9,
+            TAG_COMPOUND = 10, TAG_INT_ARRAY = 11, TAG_LONG_ARRAY = 12;
+
+    // Blocks renamed since the 1.16 data versions our schematics were saved with
+    private static final Map<String, String> RENAMED_BLOCKS = Map.of(
+            "minecraft:grass", "minecraft:short_grass",
+            "minecraft:grass_path", "minecraft:dirt_path"
+    );
+
+    private final DataInputStream in;
+    private final byte[] buffer = new byte[64 * 1024];
+
+    private int version;
+    private int width = -1, height = -1, length = -1;
+    private int[] offset;
+    private int[] weOffset;
+    private int[] weOrigin;
+    private Map<String, Integer> paletteNames;
+    private byte[] pendingBlockData;
+    private byte[] legacyBlocks, legacyData;
+    private SpongeSchematic schematic;
+    private int unknownBlocks;
+
+    private SpongeSchematicReader(InputStream input) {
+        this.in = new DataInputStream(input);
+    }
+
+    public static SpongeSchematic read(File file) throws IOException {
+        try (InputStream input = new GZIPInputStream(new BufferedInputStream(new FileInputStream(file), 64 * 1024), 64 * 1024)) {
+            SpongeSchematicReader reader = new SpongeSchematicReader(input);
+            return reader.readRoot();
+        }
+    }
+
+    private SpongeSchematic readRoot() throws IOException {
+        if (in.readUnsignedByte() != TAG_COMPOUND) {
+            throw new IOException("Not an NBT compound");
+        }
+        in.skipBytes(in.readUnsignedShort()); // root name
+        readSchematicCompound();
+
+        if (pendingBlockData != null) {
+            checkDimensions();
+            decodeBlockData(new ByteArrayInputStream(pendingBlockData), pendingBlockData.length);
+            pendingBlockData = null;
+        } else if (legacyBlocks != null) {
+            checkDimensions();
+            decodeLegacyBlocks();
+        }
+
+        if (schematic == null) {
+            throw new IOException("Schematic has no block data");
+        }
+        if (legacyBlocks == null) {
+            applyPalette();
+        }
+        applyPlacement();
+
+        if (unknownBlocks > 0) {
+            System.err.println("[SpongeSchematicReader] " + unknownBlocks + " block types are unknown to this server version and were left as air");
+        }
+        return schematic;
+    }
+
+    // The root compound in v2 and legacy files, and the "Schematic" compound inside the root in v3
+    private void readSchematicCompound() throws IOException {
+        int type;
+        while ((type = in.readUnsignedByte()) != TAG_END) {
+            String name = in.readUTF();
+            switch (name) {
+                case "Schematic" -> {
+                    if (type != TAG_COMPOUND) throw new IOException("Schematic is not a compound");
+                    readSchematicCompound();
+                }
+                case "Version" -> version = readInt(type);
+                case "Width" -> width = readInt(type);
+                case "Height" -> height = readInt(type);
+                case "Length" -> length = readInt(type);
+                case "Offset" -> offset = readIntArray(type);
+                case "Metadata" -> readMetadata(type);
+                case "Palette" -> readPalette(type); // v2
+                case "BlockData" -> readBlockData(type); // v2
+                case "Blocks" -> {
+                    if (type == TAG_BYTE_ARRAY) {
+                        legacyBlocks = readByteArray(); // legacy
+                    } else {
+                        readBlocksContainer(type); // v3
+                    }
+                }
+                case "Data" -> {
+                    if (type == TAG_BYTE_ARRAY) legacyData = readByteArray(); // legacy
+                    else skip(type);
+                }
+                // Legacy files keep the WorldEdit offset and origin at the top level
+                case "WEOffsetX" -> weOffset = withComponent(weOffset, 0, readInt(type));
+                case "WEOffsetY" -> weOffset = withComponent(weOffset, 1, readInt(type));
+                case "WEOffsetZ" -> weOffset = withComponent(weOffset, 2, readInt(type));
+                case "WEOriginX" -> weOrigin = withComponent(weOrigin, 0, readInt(type));
+                case "WEOriginY" -> weOrigin = withComponent(weOrigin, 1, readInt(type));
+                case "WEOriginZ" -> weOrigin = withComponent(weOrigin, 2, readInt(type));
+                default -> skip(type);
+            }
+        }
+    }
+
+    // v3: Blocks { Palette, Data, BlockEntities }
+    private void readBlocksContainer(int type) throws IOException {
+        if (type != TAG_COMPOUND) {
+            skip(type);
+            return;
+        }
+        int child;
+        while ((child = in.readUnsignedByte()) != TAG_END) {
+            String name = in.readUTF();
+            switch (name) {
+                case "Palette" -> readPalette(child);
+                case "Data" -> readBlockData(child);
+                default -> skip(child);
+            }
+        }
+    }
+
+    private void readMetadata(int type) throws IOException {
+        if (type != TAG_COMPOUND) {
+            skip(type);
+            return;
+        }
+        int[] offsetFromMetadata = new int[3];
+        int found = 0;
+        int child;
+        while ((child = in.readUnsignedByte()) != TAG_END) {
+            String name = in.readUTF();
+            switch (name) {
+                case "WEOffsetX" -> { offsetFromMetadata[0] = readInt(child); found++; }
+                case "WEOffsetY" -> { offsetFromMetadata[1] = readInt(child); found++; }
+                case "WEOffsetZ" -> { offsetFromMetadata[2] = readInt(child); found++; }
+                case "WorldEdit" -> readWorldEditMetadata(child);
+                default -> skip(child);
+            }
+        }
+        if (found == 3) {
+            weOffset = offsetFromMetadata;
+        }
+    }
+
+    // v3 keeps the copy origin under Metadata.WorldEdit.Origin
+    private void readWorldEditMetadata(int type) throws IOException {
+        if (type != TAG_COMPOUND) {
+            skip(type);
+            return;
+        }
+        int child;
+        while ((child = in.readUnsignedByte()) != TAG_END) {
+            if ("Origin".equals(in.readUTF())) {
+                weOrigin = readIntArray(child);
+            } else {
+                skip(child);
+            }
+        }
+    }
+
+    private void readPalette(int type) throws IOException {
+        if (type != TAG_COMPOUND) {
+            skip(type);
+            return;
+        }
+        paletteNames = new HashMap<>();
+        int child;
+        while ((child = in.readUnsignedByte()) != TAG_END) {
+            String state = in.readUTF();
+            paletteNames.put(state, readInt(child));
+        }
+        if (schematic != null) {
+            applyPalette();
+        }
+    }
+
+    private void readBlockData(int type) throws IOException {
+        if (type != TAG_BYTE_ARRAY) {
+            skip(type);
+            return;
+        }
+        if (width <= 0 || height <= 0 || length <= 0) {
+            pendingBlockData = readByteArray();
+            return;
+        }
+        decodeBlockData(in, in.readInt());
+    }
+
+    private void decodeBlockData(InputStream source, int remaining) throws IOException {
+        schematic = new SpongeSchematic(width, height, length);
+        if (paletteNames != null) {
+            // Knowing which index is air lets fully empty sections stay unallocated
+            applyPalette();
+        }
+
+        int x = 0, y = 0, z = 0;
+        int value = 0, shift = 0;
+        long total = (long) width * height * length;
+        long decoded = 0;
+
+        while (remaining > 0) {
+            int read = source.read(buffer, 0, Math.min(buffer.length, remaining));
+            if (read < 0) throw new IOException("Unexpected end of block data");
+            remaining -= read;
+
+            for (int i = 0; i < read; i++) {
+                byte b = buffer[i];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) != 0) {
+                    shift += 7;
+                    if (shift > 28) throw new IOException("Varint too long in block data");
+                    continue;
+                }
+
+                if (decoded < total) {
+                    schematic.set(x, y, z, value);
+                    decoded++;
+                    if (++x == width) {
+                        x = 0;
+                        if (++z == length) {
+                            z = 0;
+                            y++;
+                        }
+                    }
+                }
+                value = 0;
+                shift = 0;
+            }
+        }
+
+        if (decoded != total) {
+            throw new IOException("Block data holds " + decoded + " blocks, expected " + total);
+        }
+    }
+
+    /*
+     * Legacy files store one byte of block id and a data nibble (held in a byte each) per block.
+     * Each id:data pair is resolved once and used directly as the palette index.
+     */
+    private void decodeLegacyBlocks() throws IOException {
+        long total = (long) width * height * length;
+        if (legacyBlocks.length < total || (legacyData != null && legacyData.length < total)) {
+            throw new IOException("Legacy block arrays are shorter than " + total + " blocks");
+        }
+
+        schematic = new SpongeSchematic(width, height, length);
+        Block[] blocks = new Block[256 * 16];
+        blocks[0] = Block.AIR;
+        schematic.setPalette(blocks, 0);
+
+        int i = 0;
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++, i++) {
+                    int key = (legacyBlocks[i] & 0xFF) << 4 | (legacyData != null ? legacyData[i] & 0x0F : 0);
+                    if (key == 0) continue;
+
+                    Block block = blocks[key];
+                    if (block == null) {
+                        block = LegacyBlocks.toBlock(key >> 4, key & 0x0F);
+                        if (block == null) {
+                            unknownBlocks++;
+                            block = Block.AIR;
+                        }
+                        blocks[key] = block;
+                    }
+                    if (!block.isAir()) {
+                        schematic.set(x, y, z, key);
+                    }
+                }
+            }
+        }
+        legacyBlocks = null;
+        legacyData = null;
+    }
+
+    private void checkDimensions() throws IOException {
+        if (width <= 0 || height <= 0 || length <= 0) {
+            throw new IOException("Schematic has no dimensions");
+        }
+    }
+
+    private void applyPalette() {
+        if (schematic == null || paletteNames == null) return;
+
+        int size = 0;
+        for (int index : paletteNames.values()) {
+            size = Math.max(size, index + 1);
+        }
+
+        Block[] blocks = new Block[size];
+        int airIndex = -1;
+        unknownBlocks = 0;
+        for (Map.Entry<String, Integer> entry : paletteNames.entrySet()) {
+            Block block = resolve(entry.getKey());
+            if (block == null) {
+                unknownBlocks++;
+                block = Block.AIR;
+            }
+            blocks[entry.getValue()] = block;
+            if (airIndex < 0 && block.isAir()) {
+                airIndex = entry.getValue();
+            }
+        }
+        schematic.setPalette(blocks, airIndex);
+    }
+
+    private static Block resolve(String state) {
+        Block block = Block.fromState(state);
+        if (block != null) return block;
+
+        int properties = state.indexOf('[');
+        String name = properties < 0 ? state : state.substring(0, properties);
+        String renamed = RENAMED_BLOCKS.get(name);
+        if (renamed != null) {
+            block = Block.fromState(renamed + (properties < 0 ? "" : state.substring(properties)));
+        }
+        return block;
+    }
+
+    /*
+     * WorldEdit pastes a clipboard so that its copy origin lands on the paste position. We paste at
+     * x=0, z=0 and keep the original height, so the builder's standing spot becomes the spawn.
+     */
+    private void applyPlacement() {
+        if (version >= 3) {
+            // v3: Offset is already relative to the origin
+            int[] relative = offset != null ? offset : new int[]{-width / 2, 0, -length / 2};
+            int originY = weOrigin != null && weOrigin.length == 3 ? weOrigin[1] : -relative[1];
+            schematic.setPlacement(relative[0], relative[1], relative[2], originY);
+        } else if (weOffset != null) {
+            // v2: Offset is the world position of the minimum corner, WEOffset is min - origin.
+            // Legacy files record the origin itself instead.
+            int originY;
+            if (offset != null && offset.length == 3) {
+                originY = offset[1] - weOffset[1];
+            } else if (weOrigin != null) {
+                originY = weOrigin[1];
+            } else {
+                originY = -weOffset[1];
+            }
+            schematic.setPlacement(weOffset[0], weOffset[1], weOffset[2], originY);
+        } else {
+            // No origin recorded: centre the footprint and spawn on top
+            schematic.setPlacement(-width / 2, -height, -length / 2, height);
+        }
+    }
+
+    private int readInt(int type) throws IOException {
+        return switch (type) {
+            case TAG_BYTE -> in.readByte();
+            case TAG_SHORT -> in.readUnsignedShort();
+            case TAG_INT -> in.readInt();
+            case TAG_LONG -> (int) in.readLong();
+            default -> throw new IOException("Expected a number tag, got type " + type);
+        };
+    }
+
+    private byte[] readByteArray() throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static int[] withComponent(int[] vector, int axis, int value) {
+        if (vector == null) vector = new int[3];
+        vector[axis] = value;
+        return vector;
+    }
+
+    private int[] readIntArray(int type) throws IOException {
+        if (type != TAG_INT_ARRAY) {
+            skip(type);
+            return null;
+        }
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private void skip(int type) throws IOException {
+        switch (type) {
+            case TAG_END -> { }
+            case TAG_BYTE -> skipFully(1);
+            case TAG_SHORT -> skipFully(2);
+            case TAG_INT, TAG_FLOAT -> skipFully(4);
+            case TAG_LONG, TAG_DOUBLE -> skipFully(8);
+            case TAG_BYTE_ARRAY -> skipFully(in.readInt());
+            case TAG_STRING -> skipFully(in.readUnsignedShort());
+            case TAG_LIST -> {
+                int elementType = in.readUnsignedByte();
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    skip(elementType);
+                }
+            }
+            case TAG_COMPOUND -> {
+                int child;
+                while ((child = in.readUnsignedByte()) != TAG_END) {
+                    skipFully(in.readUnsignedShort());
+                    skip(child);
+                }
+            }
+            case TAG_INT_ARRAY -> skipFully(4L * in.readInt());
+            case TAG_LONG_ARRAY -> skipFully(8L * in.readInt());
+            default -> throw new IOException("Unknown NBT tag type " + type);
+        }
+    }
+
+    private void skipFully(long bytes) throws IOException {
+        while (bytes > 0) {
+            int skipped = in.skipBytes((int) Math.min(bytes, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                // skipBytes may stop early on a gzip stream; fall back to reading
+                if (in.read() < 0) throw new IOException("Unexpected end of schematic");
+                skipped = 1;
+            }
+            bytes -= skipped;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package mythic.prison.data.schematic;
+
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.DynamicChunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.network.packet.server.SendablePacket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copy-on-write view of a prototype chunk. Sections are shared with the prototype (and with every
+ * other instance made from the same template) until a block in them changes, at which point that
+ * section alone is cloned into this chunk. While nothing has changed, viewers are sent the
+ * prototype's cached chunk packet, so it is encoded once per template chunk rather than per mine.
+ *
+ * Code writing to section palettes directly must go through {@link #getWritableSection(int)}.
+ */
+public class TemplateChunk extends DynamicChunk {
+    private final Chunk template;
+    private final boolean[] privateSections;
+    private volatile boolean diverged;
+
+    TemplateChunk(Instance instance, int chunkX, int chunkZ, Chunk template) {
+        super(instance, chunkX, chunkZ);
+        this.template = template;
+        this.sections = new ArrayList<>(template.getSections());
+        this.privateSections = new boolean[sections.size()];
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, Block block, BlockHandler.Placement placement, BlockHandler.Destroy destroy) {
+        materialize((y >> 4) - getMinSection());
+        super.setBlock(x, y, z, block, placement, destroy);
+    }
+
+    /**
+     * The section at the given section Y, cloned from the template first if it is still shared.
+     */
+    public Section getWritableSection(int sectionY) {
+        materialize(sectionY - getMinSection());
+        return getSection(sectionY);
+    }
+
+    @Override
+    public void reset() {
+        synchronized (this) {
+            List<Section> cleared = new ArrayList<>(sections.size());
+            for (int i = 0; i < sections.size(); i++) {
+                cleared.add(new Section());
+                privateSections[i] = true;
+            }
+            this.sections = cleared;
+            this.diverged = true;
+        }
+        invalidate();
+    }
+
+    @Override
+    public SendablePacket getFullDataPacket() {
+        return diverged ? super.getFullDataPacket() : template.getFullDataPacket();
+    }
+
+    /** Whether every section is still shared with the template. */
+    public boolean isShared() {
+        return !diverged;
+    }
+
+    public int getPrivateSectionCount() {
+        int count = 0;
+        for (boolean isPrivate : privateSections) {
+            if (isPrivate) count++;
+        }
+        return count;
+    }
+
+    private synchronized void materialize(int index) {
+        if (index < 0 || index >= privateSections.length || privateSections[index]) return;
+        sections.set(index, sections.get(index).clone());
+        privateSections[index] = true;
+        diverged = true;
+    }
+}
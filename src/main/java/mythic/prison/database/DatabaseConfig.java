@@ -2,14 +2,29 @@
 package mythic.prison.database;
 
 public class DatabaseConfig {
+    // Storage backend: mongo (Mongo + Redis), memory, or file (append-only logs in STORE_DIRECTORY)
+    public static final String STORE_BACKEND = System.getProperty("mythic.store", "mongo");
+    public static final String STORE_DIRECTORY = System.getProperty("mythic.store.directory", "data/store");
+
     // MongoDB Configuration
-    public static final String MONGODB_HOST = "34.174.89.110";
-    public static final int MONGODB_PORT = 27017;
-    public static final String MONGODB_DATABASE = "mythicprison";
+    public static final String MONGODB_HOST = System.getProperty("mythic.mongo.host", "34.174.89.110");
+    public static final int MONGODB_PORT = Integer.getInteger("mythic.mongo.port", 27017);
+    public static final String MONGODB_DATABASE = System.getProperty("mythic.mongo.database", "mythicprison");
 
     // Redis Configuration
-    public static final String REDIS_HOST = "34.174.89.110";
-    public static final int REDIS_PORT = 6379;
+    public static final String REDIS_HOST = System.getProperty("mythic.redis.host", "34.174.89.110");
+    public static final int REDIS_PORT = Integer.getInteger("mythic.redis.port", 6379);
     public static final String REDIS_USERNAME = "default";
     public static final String REDIS_PASSWORD = "mysecretpassword";
+
+    // Persistence Configuration
+    // Dirty profiles are written back at most once per interval (override with -Dmythic.profile.flushIntervalMs)
+    public static final long PROFILE_FLUSH_INTERVAL_MS = Long.getLong("mythic.profile.flushIntervalMs", 5000L);
+
+    // Shared bulkWrite pipeline: batch size, max time a write waits, per-collection queue bound,
+    // and how long a submitter waits for room in a full queue before the write is handed back
+    public static final int WRITE_BATCH_SIZE = Integer.getInteger("mythic.write.batchSize", 500);
+    public static final long WRITE_FLUSH_INTERVAL_MS = Long.getLong("mythic.write.flushIntervalMs", 250L);
+    public static final int WRITE_QUEUE_CAPACITY = Integer.getInteger("mythic.write.queueCapacity", 20000);
+    public static final long WRITE_OFFER_TIMEOUT_MS = Long.getLong("mythic.write.offerTimeoutMs", 5L);
 }
\ No newline at end of file
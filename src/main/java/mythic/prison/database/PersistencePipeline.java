@@ -0,0 +1,304 @@
+package mythic.prison.database;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Shared write stage for all managers. Writes are queued per collection and sent
+ * as unordered bulkWrite batches, flushed when a batch fills up or the flush interval passes.
+ * Writes for the same document key never share a batch, so their order is preserved.
+ */
+public class PersistencePipeline {
+    private final Map<String, CollectionQueue> queues = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "PersistencePipeline-Flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int batchSize;
+    private final int queueCapacity;
+    private final long offerTimeoutMs;
+
+    public PersistencePipeline() {
+        this(DatabaseConfig.WRITE_BATCH_SIZE, DatabaseConfig.WRITE_QUEUE_CAPACITY, DatabaseConfig.WRITE_FLUSH_INTERVAL_MS,
+                DatabaseConfig.WRITE_OFFER_TIMEOUT_MS);
+    }
+
+    public PersistencePipeline(int batchSize, int queueCapacity, long flushIntervalMs, long offerTimeoutMs) {
+        this.batchSize = Math.max(1, batchSize);
+        this.queueCapacity = Math.max(this.batchSize, queueCapacity);
+        this.offerTimeoutMs = Math.max(0, offerTimeoutMs);
+
+        long interval = Math.max(10, flushIntervalMs);
+        flusher.scheduleWithFixedDelay(this::flushAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues a write. The caller never talks to Mongo: when the collection's queue is full it
+     * wakes the flusher and waits at most mythic.write.offerTimeoutMs for room, then gives the
+     * write back through onFailure so its owner can retry later.
+     */
+    public void submit(MongoCollection<Document> collection, String key, WriteModel<Document> model, Consumer<Throwable> onFailure) {
+        if (collection == null || model == null) return;
+
+        CollectionQueue queue = queues.computeIfAbsent(collection.getNamespace().getCollectionName(),
+                name -> new CollectionQueue(name, collection, queueCapacity));
+        PendingWrite write = new PendingWrite(key, model, onFailure);
+
+        if (!queue.pending.offer(write)) {
+            scheduleFlush(queue);
+            boolean queued;
+            try {
+                queued = queue.pending.offer(write, offerTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queued = false;
+            }
+            if (!queued) {
+                queue.rejected.incrementAndGet();
+                System.err.println("[PersistencePipeline] Write queue for " + queue.name + " is full, handing the write back");
+                queue.notifyFailure(write, new RejectedExecutionException("write queue for " + queue.name + " is full"));
+                return;
+            }
+        }
+
+        if (queue.pending.size() >= batchSize) {
+            scheduleFlush(queue);
+        }
+    }
+
+    public void submit(MongoCollection<Document> collection, String key, WriteModel<Document> model) {
+        submit(collection, key, model, null);
+    }
+
+    private void scheduleFlush(CollectionQueue queue) {
+        if (!queue.flushScheduled.compareAndSet(false, true)) return;
+        flusher.execute(() -> {
+            queue.flushScheduled.set(false);
+            queue.flush(batchSize);
+        });
+    }
+
+    private void flushAll() {
+        for (CollectionQueue queue : queues.values()) {
+            try {
+                queue.drain(batchSize);
+            } catch (Exception e) {
+                System.err.println("[PersistencePipeline] Error flushing " + queue.name + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // Writes everything still queued; called on shutdown before Mongo disconnects
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+        System.out.println("[PersistencePipeline] Flushed all pending writes");
+    }
+
+    public Map<String, Metrics> getMetrics() {
+        Map<String, Metrics> metrics = new LinkedHashMap<>();
+        for (CollectionQueue queue : queues.values()) {
+            metrics.put(queue.name, queue.snapshot());
+        }
+        return metrics;
+    }
+
+    private static class PendingWrite {
+        private final String key;
+        private final WriteModel<Document> model;
+        private final Consumer<Throwable> onFailure;
+
+        private PendingWrite(String key, WriteModel<Document> model, Consumer<Throwable> onFailure) {
+            this.key = key;
+            this.model = model;
+            this.onFailure = onFailure;
+        }
+    }
+
+    private static class CollectionQueue {
+        private final String name;
+        private final MongoCollection<Document> collection;
+        private final BlockingQueue<PendingWrite> pending;
+        private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+        // Items taken from the queue but not yet written because their key was already in the batch
+        private final List<PendingWrite> carryOver = new ArrayList<>();
+
+        private final AtomicLong batches = new AtomicLong();
+        private final AtomicLong writes = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        // Writes handed back because the queue stayed full
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong totalFlushNanos = new AtomicLong();
+        private volatile long lastFlushNanos;
+        private volatile long maxFlushNanos;
+        private volatile int lastBatchSize;
+
+        private CollectionQueue(String name, MongoCollection<Document> collection, int capacity) {
+            this.name = name;
+            this.collection = collection;
+            this.pending = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private void drain(int batchSize) {
+            // Bounded so steady producers can't keep the flusher in here forever
+            int rounds = (pending.size() + carryOver.size()) / batchSize + 2;
+            while (rounds-- > 0 && flush(batchSize) > 0) {
+                // keep going until the queue is empty
+            }
+        }
+
+        // Sends at most one batch; synchronized so scheduled and interval flushes don't interleave
+        private synchronized int flush(int batchSize) {
+            List<PendingWrite> batch = new ArrayList<>(Math.min(batchSize, carryOver.size() + pending.size()));
+            Set<String> keys = new HashSet<>();
+
+            List<PendingWrite> candidates = new ArrayList<>(carryOver);
+            carryOver.clear();
+            pending.drainTo(candidates, Math.max(0, batchSize - candidates.size()));
+
+            for (PendingWrite write : candidates) {
+                if (batch.size() < batchSize && (write.key == null || keys.add(write.key))) {
+                    batch.add(write);
+                } else {
+                    carryOver.add(write);
+                }
+            }
+            if (batch.isEmpty()) return 0;
+
+            List<WriteModel<Document>> models = new ArrayList<>(batch.size());
+            for (PendingWrite write : batch) {
+                models.add(write.model);
+            }
+
+            long start = System.nanoTime();
+            try {
+                collection.bulkWrite(models, new BulkWriteOptions().ordered(false));
+            } catch (MongoBulkWriteException e) {
+                // Unordered batch: everything except the reported indexes was applied
+                failures.incrementAndGet();
+                System.err.println("[PersistencePipeline] " + e.getWriteErrors().size() + " of " + batch.size() + " writes to " + name + " failed: " + e.getMessage());
+                for (BulkWriteError error : e.getWriteErrors()) {
+                    notifyFailure(batch.get(error.getIndex()), e);
+                }
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                System.err.println("[PersistencePipeline] Bulk write to " + name + " failed (" + batch.size() + " writes): " + e.getMessage());
+                for (PendingWrite write : batch) {
+                    notifyFailure(write, e);
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+
+            batches.incrementAndGet();
+            writes.addAndGet(batch.size());
+            totalFlushNanos.addAndGet(elapsed);
+            lastFlushNanos = elapsed;
+            maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+            lastBatchSize = batch.size();
+            return batch.size();
+        }
+
+        private void notifyFailure(PendingWrite write, Throwable error) {
+            if (write.onFailure == null) return;
+            try {
+                write.onFailure.accept(error);
+            } catch (Exception callbackError) {
+                System.err.println("[PersistencePipeline] Error in failure callback: " + callbackError.getMessage());
+            }
+        }
+
+        private Metrics snapshot() {
+            long batchCount = batches.get();
+            long writeCount = writes.get();
+            return new Metrics(
+                    pending.size() + carryOver.size(),
+                    batchCount,
+                    writeCount,
+                    failures.get(),
+                    rejected.get(),
+                    lastBatchSize,
+                    batchCount == 0 ? 0 : (double) writeCount / batchCount,
+                    lastFlushNanos / 1_000_000.0,
+                    batchCount == 0 ? 0 : totalFlushNanos.get() / 1_000_000.0 / batchCount,
+                    maxFlushNanos / 1_000_000.0
+            );
+        }
+    }
+
+    /**
+     * Point-in-time numbers for one collection. Latencies are in milliseconds.
+     */
+    public static class Metrics {
+        private final int queueDepth;
+        private final long batches;
+        private final long writes;
+        private final long failedBatches;
+        private final long rejectedWrites;
+        private final int lastBatchSize;
+        private final double averageBatchSize;
+        private final double lastFlushMs;
+        private final double averageFlushMs;
+        private final double maxFlushMs;
+
+        public Metrics(int queueDepth, long batches, long writes, long failedBatches, long rejectedWrites, int lastBatchSize,
+                       double averageBatchSize, double lastFlushMs, double averageFlushMs, double maxFlushMs) {
+            this.queueDepth = queueDepth;
+            this.batches = batches;
+            this.writes = writes;
+            this.failedBatches = failedBatches;
+            this.rejectedWrites = rejectedWrites;
+            this.lastBatchSize = lastBatchSize;
+            this.averageBatchSize = averageBatchSize;
+            this.lastFlushMs = lastFlushMs;
+            this.averageFlushMs = averageFlushMs;
+            this.maxFlushMs = maxFlushMs;
+        }
+
+        // Getters
+        public int getQueueDepth() { return queueDepth; }
+        public long getBatches() { return batches; }
+        public long getWrites() { return writes; }
+        public long getFailedBatches() { return failedBatches; }
+        public long getRejectedWrites() { return rejectedWrites; }
+        public int getLastBatchSize() { return lastBatchSize; }
+        public double getAverageBatchSize() { return averageBatchSize; }
+        public double getLastFlushMs() { return lastFlushMs; }
+        public double getAverageFlushMs() { return averageFlushMs; }
+        public double getMaxFlushMs() { return maxFlushMs; }
+
+        @Override
+        public String toString() {
+            return String.format("depth=%d batches=%d writes=%d failed=%d rejected=%d batch(last/avg)=%d/%.1f flush(last/avg/max)=%.1f/%.1f/%.1fms",
+                    queueDepth, batches, writes, failedBatches, rejectedWrites, lastBatchSize, averageBatchSize,
+                    lastFlushMs, averageFlushMs, maxFlushMs);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package mythic.prison.database.store;
+
+import org.bson.Document;
+
+import java.util.Map;
+
+/**
+ * Applies the subset of Mongo update operators the managers use ($inc, $set, $unset,
+ * with dotted paths) to a document held in memory.
+ */
+public final class DocumentUpdates {
+
+    private DocumentUpdates() {
+    }
+
+    public static void apply(Document target, Document update) {
+        Document increments = update.get("$inc", Document.class);
+        if (increments != null) {
+            for (Map.Entry<String, Object> entry : increments.entrySet()) {
+                increment(target, entry.getKey(), (Number) entry.getValue());
+            }
+        }
+
+        Document sets = update.get("$set", Document.class);
+        if (sets != null) {
+            for (Map.Entry<String, Object> entry : sets.entrySet()) {
+                Document parent = parentOf(target, entry.getKey(), true);
+                parent.put(leafOf(entry.getKey()), entry.getValue());
+            }
+        }
+
+        Document unsets = update.get("$unset", Document.class);
+        if (unsets != null) {
+            for (String path : unsets.keySet()) {
+                Document parent = parentOf(target, path, false);
+                if (parent != null) {
+                    parent.remove(leafOf(path));
+                }
+            }
+        }
+    }
+
+    private static void increment(Document target, String path, Number amount) {
+        Document parent = parentOf(target, path, true);
+        String leaf = leafOf(path);
+        Object current = parent.get(leaf);
+
+        // Same widening Mongo does: any double makes the result a double
+        if (current instanceof Double || amount instanceof Double || current instanceof Float || amount instanceof Float) {
+            double base = current instanceof Number number ? number.doubleValue() : 0;
+            parent.put(leaf, base + amount.doubleValue());
+        } else if (current instanceof Long || amount instanceof Long) {
+            long base = current instanceof Number number ? number.longValue() : 0;
+            parent.put(leaf, base + amount.longValue());
+        } else {
+            int base = current instanceof Number number ? number.intValue() : 0;
+            parent.put(leaf, base + amount.intValue());
+        }
+    }
+
+    private static Document parentOf(Document target, String path, boolean create) {
+        Document current = target;
+        int start = 0;
+        int dot;
+        while ((dot = path.indexOf('.', start)) >= 0) {
+            String part = path.substring(start, dot);
+            Object child = current.get(part);
+            if (child instanceof Document document) {
+                current = document;
+            } else if (child instanceof Map<?, ?> map) {
+                Document document = new Document(castMap(map));
+                current.put(part, document);
+                current = document;
+            } else if (create) {
+                Document document = new Document();
+                current.put(part, document);
+                current = document;
+            } else {
+                return null;
+            }
+            start = dot + 1;
+        }
+        return current;
+    }
+
+    private static String leafOf(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot >= 0 ? path.substring(dot + 1) : path;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castMap(Map<?, ?> map) {
+        return (Map<String, Object>) map;
+    }
+}
@@ -0,0 +1,204 @@
+package mythic.prison.database.store;
+
+import mythic.prison.database.DatabaseConfig;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * In-memory collection backed by an append-only log of put/update/delete records, one JSON line each.
+ * On open the log is replayed and rewritten as one put per live document, so it only grows
+ * between restarts.
+ *
+ * Each write changes the map and queues its record under one lock, so the log holds writes in the
+ * order they were applied. Records are written and flushed by a background writer, never on the
+ * caller's thread.
+ */
+public class FileKeyValueStore extends MemoryKeyValueStore {
+
+    // Extended JSON keeps int/long/double apart so documents read back with the types they were written with
+    private static final JsonWriterSettings JSON = JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+
+    // Shared by every file store; each store drains its own queue on it
+    private static final ScheduledExecutorService WRITER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FileKeyValueStore-Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final File file;
+    private final Queue<PendingRecord> pending = new ConcurrentLinkedQueue<>();
+    private final Object writeLock = new Object();
+    private final ScheduledFuture<?> drainTask;
+    private BufferedWriter writer;
+    private volatile boolean closed;
+
+    public FileKeyValueStore(String name, File file) throws IOException {
+        super(name);
+        this.file = file;
+
+        int records = replay();
+        compact();
+        writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        long interval = Math.max(10, DatabaseConfig.WRITE_FLUSH_INTERVAL_MS);
+        drainTask = WRITER.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+
+        System.out.println("[FileKeyValueStore] " + name + ": replayed " + records + " records into " + size() + " documents");
+    }
+
+    @Override
+    public synchronized void put(String key, Document document, Consumer<Throwable> onFailure) {
+        super.put(key, document, onFailure);
+        append(new Document("op", "put").append("key", key).append("doc", document), onFailure);
+    }
+
+    @Override
+    public synchronized void update(String key, Document update, Consumer<Throwable> onFailure) {
+        if (!documents.containsKey(key)) return;
+        super.update(key, update, onFailure);
+        append(new Document("op", "update").append("key", key).append("update", update), onFailure);
+    }
+
+    @Override
+    public synchronized void delete(String key) {
+        super.delete(key);
+        append(new Document("op", "delete").append("key", key), null);
+    }
+
+    /**
+     * Writes every queued record and closes the log.
+     */
+    public void close() {
+        closed = true;
+        drainTask.cancel(false);
+        synchronized (writeLock) {
+            drain();
+            try {
+                if (writer != null) {
+                    writer.close();
+                    writer = null;
+                }
+            } catch (IOException e) {
+                System.err.println("[FileKeyValueStore] Error closing " + file.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // Called with the store lock held, so records are queued in the order the map changed
+    private void append(Document record, Consumer<Throwable> onFailure) {
+        if (closed) {
+            System.err.println("[FileKeyValueStore] Dropping write to closed store " + file.getName());
+            if (onFailure != null) {
+                onFailure.accept(new IOException("store is closed"));
+            }
+            return;
+        }
+        pending.add(new PendingRecord(record.toJson(JSON), onFailure));
+    }
+
+    // Writes everything queued so far with one flush
+    private void drain() {
+        synchronized (writeLock) {
+            if (pending.isEmpty()) return;
+
+            List<PendingRecord> batch = new ArrayList<>();
+            try {
+                if (writer == null) throw new IOException("store is closed");
+                PendingRecord record;
+                while ((record = pending.poll()) != null) {
+                    batch.add(record);
+                    writer.write(record.line);
+                    writer.newLine();
+                }
+                writer.flush();
+            } catch (Exception e) {
+                System.err.println("[FileKeyValueStore] Error appending to " + file.getName() + ": " + e.getMessage());
+                for (PendingRecord failed : batch) {
+                    if (failed.onFailure != null) {
+                        failed.onFailure.accept(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private int replay() throws IOException {
+        if (!file.exists()) return 0;
+
+        int records = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    Document record = Document.parse(line);
+                    String key = record.getString("key");
+                    switch (record.getString("op")) {
+                        case "put" -> documents.put(key, record.get("doc", Document.class));
+                        case "update" -> {
+                            Document document = documents.get(key);
+                            if (document != null) {
+                                DocumentUpdates.apply(document, record.get("update", Document.class));
+                            }
+                        }
+                        case "delete" -> documents.remove(key);
+                        default -> { }
+                    }
+                    records++;
+                } catch (Exception e) {
+                    // A crash can leave a half-written last line
+                    System.err.println("[FileKeyValueStore] Skipping unreadable record in " + file.getName() + ": " + e.getMessage());
+                }
+            }
+        }
+        return records;
+    }
+
+    // Rewrites the log as one put per document, then swaps it in atomically
+    private void compact() throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+
+        File temp = new File(parent, file.getName() + ".compact");
+        try (BufferedWriter out = Files.newBufferedWriter(temp.toPath(), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Document> entry : documents.entrySet()) {
+                out.write(new Document("op", "put").append("key", entry.getKey()).append("doc", entry.getValue()).toJson(JSON));
+                out.newLine();
+            }
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static class PendingRecord {
+        private final String line;
+        private final Consumer<Throwable> onFailure;
+
+        private PendingRecord(String line, Consumer<Throwable> onFailure) {
+            this.line = line;
+            this.onFailure = onFailure;
+        }
+    }
+}
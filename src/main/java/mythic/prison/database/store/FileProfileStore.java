@@ -0,0 +1,51 @@
+package mythic.prison.database.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-node backend: every collection is an append-only log under the given directory
+ * (data/store by default), compacted each time it is opened.
+ */
+public class FileProfileStore implements ProfileStore {
+    private final File directory;
+    private final Map<String, FileKeyValueStore> stores = new ConcurrentHashMap<>();
+
+    public FileProfileStore(File directory) {
+        this.directory = directory;
+        if (!directory.exists()) {
+            directory.mkdirs();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public KeyValueStore open(String collection, String... keyFields) {
+        return stores.computeIfAbsent(collection, name -> {
+            try {
+                return new FileKeyValueStore(name, new File(directory, name.replace(':', '_') + ".log"));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open store " + name, e);
+            }
+        });
+    }
+
+    @Override
+    public KeyValueStore openCache(String namespace) {
+        return open("cache:" + namespace);
+    }
+
+    @Override
+    public void close() {
+        for (FileKeyValueStore store : stores.values()) {
+            store.close();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package mythic.prison.database.store;
+
+import org.bson.Document;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * One collection of documents addressed by key. Reads are synchronous and meant to be called
+ * off the tick thread; writes may be queued and batched by the backend.
+ */
+public interface KeyValueStore {
+
+    String getName();
+
+    // Null if there is no document for the key
+    Document get(String key);
+
+    // All documents whose top-level field equals the value
+    List<Document> findBy(String field, Object value);
+
+    // Replaces or creates the document; onFailure runs if the backend drops the write
+    void put(String key, Document document, Consumer<Throwable> onFailure);
+
+    default void put(String key, Document document) {
+        put(key, document, null);
+    }
+
+    // Applies a Mongo-style update ($inc, $set, $unset) to an existing document
+    void update(String key, Document update, Consumer<Throwable> onFailure);
+
+    void delete(String key);
+}
@@ -0,0 +1,98 @@
+package mythic.prison.database.store;
+
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Documents held in a map. Writes apply immediately; reads return copies so callers
+ * never see a document change underneath them.
+ */
+public class MemoryKeyValueStore implements KeyValueStore {
+    private final String name;
+    protected final Map<String, Document> documents = new ConcurrentHashMap<>();
+
+    public MemoryKeyValueStore(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Document get(String key) {
+        Document document = documents.get(key);
+        if (document == null) return null;
+        synchronized (document) {
+            return copy(document);
+        }
+    }
+
+    @Override
+    public List<Document> findBy(String field, Object value) {
+        List<Document> matches = new ArrayList<>();
+        for (Document document : documents.values()) {
+            synchronized (document) {
+                if (Objects.equals(document.get(field), value)) {
+                    matches.add(copy(document));
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public void put(String key, Document document, Consumer<Throwable> onFailure) {
+        documents.put(key, copy(document));
+    }
+
+    @Override
+    public void update(String key, Document update, Consumer<Throwable> onFailure) {
+        // Like updateOne without upsert, updating a missing document does nothing
+        Document document = documents.get(key);
+        if (document == null) return;
+        synchronized (document) {
+            DocumentUpdates.apply(document, copy(update));
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        documents.remove(key);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // Deep copy of nested documents, maps and lists; leaf values are immutable
+    static Document copy(Map<String, Object> source) {
+        Document copy = new Document();
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            copy.put(entry.getKey(), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyValue(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return copy((Map<String, Object>) map);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copyValue(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+}
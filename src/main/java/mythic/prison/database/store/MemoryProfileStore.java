@@ -0,0 +1,30 @@
+package mythic.prison.database.store;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps everything in memory and loses it on shutdown. For benchmarks, load tests and offline dev servers.
+ */
+public class MemoryProfileStore implements ProfileStore {
+    private final Map<String, MemoryKeyValueStore> stores = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    @Override
+    public KeyValueStore open(String collection, String... keyFields) {
+        return stores.computeIfAbsent(collection, MemoryKeyValueStore::new);
+    }
+
+    @Override
+    public KeyValueStore openCache(String namespace) {
+        return open("cache:" + namespace);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,80 @@
+package mythic.prison.database.store;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import mythic.prison.database.PersistencePipeline;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A Mongo collection. Reads go straight to the server, writes are batched by the shared PersistencePipeline.
+ */
+public class MongoKeyValueStore implements KeyValueStore {
+    private final String name;
+    private final MongoCollection<Document> collection;
+    private final String[] keyFields;
+    private final PersistencePipeline pipeline;
+
+    public MongoKeyValueStore(String name, MongoCollection<Document> collection, String[] keyFields, PersistencePipeline pipeline) {
+        this.name = name;
+        this.collection = collection;
+        this.keyFields = keyFields.length > 0 ? keyFields : new String[]{"_id"};
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Document get(String key) {
+        if (collection == null) return null;
+        return collection.find(filterFor(key)).first();
+    }
+
+    @Override
+    public List<Document> findBy(String field, Object value) {
+        if (collection == null) return new ArrayList<>();
+        return collection.find(Filters.eq(field, value)).into(new ArrayList<>());
+    }
+
+    @Override
+    public void put(String key, Document document, Consumer<Throwable> onFailure) {
+        if (pipeline == null) return;
+        pipeline.submit(collection, key, new ReplaceOneModel<>(filterFor(key), document, new ReplaceOptions().upsert(true)), onFailure);
+    }
+
+    @Override
+    public void update(String key, Document update, Consumer<Throwable> onFailure) {
+        if (pipeline == null) return;
+        pipeline.submit(collection, key, new UpdateOneModel<>(filterFor(key), update), onFailure);
+    }
+
+    @Override
+    public void delete(String key) {
+        if (pipeline == null) return;
+        pipeline.submit(collection, key, new DeleteOneModel<>(filterFor(key)));
+    }
+
+    private Bson filterFor(String key) {
+        if (keyFields.length == 1) {
+            return Filters.eq(keyFields[0], key);
+        }
+
+        String[] parts = key.split(":", keyFields.length);
+        List<Bson> filters = new ArrayList<>(keyFields.length);
+        for (int i = 0; i < keyFields.length; i++) {
+            filters.add(Filters.eq(keyFields[i], i < parts.length ? parts[i] : null));
+        }
+        return Filters.and(filters);
+    }
+}
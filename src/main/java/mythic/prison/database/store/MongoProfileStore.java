@@ -0,0 +1,56 @@
+package mythic.prison.database.store;
+
+import com.mongodb.client.MongoCollection;
+import mythic.prison.database.MongoManager;
+import mythic.prison.database.PersistencePipeline;
+import mythic.prison.database.RedisManager;
+import org.bson.Document;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The networked backend: collections live in MongoDB, caches in Redis.
+ */
+public class MongoProfileStore implements ProfileStore {
+    private final MongoManager mongoManager;
+    private final RedisManager redisManager;
+    private final PersistencePipeline pipeline;
+    private final Map<String, KeyValueStore> stores = new ConcurrentHashMap<>();
+
+    public MongoProfileStore(MongoManager mongoManager, RedisManager redisManager, PersistencePipeline pipeline) {
+        this.mongoManager = mongoManager;
+        this.redisManager = redisManager;
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public String getName() {
+        return "mongo";
+    }
+
+    @Override
+    public KeyValueStore open(String collection, String... keyFields) {
+        return stores.computeIfAbsent(collection, name -> {
+            MongoCollection<Document> mongoCollection = null;
+            try {
+                if (mongoManager != null && mongoManager.getDatabase() != null) {
+                    mongoCollection = mongoManager.getDatabase().getCollection(name);
+                }
+            } catch (Exception e) {
+                System.err.println("[MongoProfileStore] Failed to open collection " + name + ": " + e.getMessage());
+            }
+            return new MongoKeyValueStore(name, mongoCollection, keyFields, pipeline);
+        });
+    }
+
+    @Override
+    public KeyValueStore openCache(String namespace) {
+        return stores.computeIfAbsent("cache:" + namespace, name -> new RedisKeyValueStore(namespace, redisManager));
+    }
+
+    @Override
+    public void close() {
+        // Mongo writes are flushed by the pipeline, Redis writes are synchronous
+    }
+}
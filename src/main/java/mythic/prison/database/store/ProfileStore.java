@@ -0,0 +1,23 @@
+package mythic.prison.database.store;
+
+/**
+ * Where player data lives. Managers open their collections here and only talk to
+ * {@link KeyValueStore}, so the same code runs on Mongo, in memory or on local files.
+ * Select the backend with -Dmythic.store=mongo|memory|file.
+ */
+public interface ProfileStore {
+
+    String getName();
+
+    /**
+     * Opens (or returns the already open) collection. Documents are identified by the given
+     * fields; for compound keys the key string is the field values joined with ':'.
+     */
+    KeyValueStore open(String collection, String... keyFields);
+
+    // Small JSON values that were kept in Redis, such as the legacy profile cache
+    KeyValueStore openCache(String namespace);
+
+    // Writes out anything still buffered
+    void close();
+}
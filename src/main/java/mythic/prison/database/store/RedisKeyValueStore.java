@@ -0,0 +1,75 @@
+package mythic.prison.database.store;
+
+import io.lettuce.core.api.sync.RedisCommands;
+import mythic.prison.database.RedisManager;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JSON documents stored as Redis strings under "namespace:key". Redis keeps no secondary
+ * index, so findBy always comes back empty.
+ */
+public class RedisKeyValueStore implements KeyValueStore {
+    private final String namespace;
+    private final RedisManager redisManager;
+
+    public RedisKeyValueStore(String namespace, RedisManager redisManager) {
+        this.namespace = namespace;
+        this.redisManager = redisManager;
+    }
+
+    @Override
+    public String getName() {
+        return namespace;
+    }
+
+    @Override
+    public Document get(String key) {
+        RedisCommands<String, String> commands = commands();
+        if (commands == null) return null;
+
+        String json = commands.get(namespace + ":" + key);
+        return json != null ? Document.parse(json) : null;
+    }
+
+    @Override
+    public List<Document> findBy(String field, Object value) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public void put(String key, Document document, Consumer<Throwable> onFailure) {
+        RedisCommands<String, String> commands = commands();
+        if (commands == null) return;
+
+        try {
+            commands.set(namespace + ":" + key, document.toJson());
+        } catch (Exception e) {
+            if (onFailure != null) onFailure.accept(e);
+        }
+    }
+
+    @Override
+    public void update(String key, Document update, Consumer<Throwable> onFailure) {
+        Document document = get(key);
+        if (document == null) return;
+
+        DocumentUpdates.apply(document, update);
+        put(key, document, onFailure);
+    }
+
+    @Override
+    public void delete(String key) {
+        RedisCommands<String, String> commands = commands();
+        if (commands != null) {
+            commands.del(namespace + ":" + key);
+        }
+    }
+
+    private RedisCommands<String, String> commands() {
+        return redisManager != null ? redisManager.getSyncCommands() : null;
+    }
+}
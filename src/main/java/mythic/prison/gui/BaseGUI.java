@@ -1,5 +1,6 @@
 package mythic.prison.gui;
 
+import mythic.prison.MythicPrison;
 import net.kyori.adventure.text.Component;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
@@ -30,13 +31,14 @@ public abstract class BaseGUI {
     
     private void setupClickHandler() {
         // Use global event handler for inventory clicks
-        MinecraftServer.getGlobalEventHandler().addListener(InventoryPreClickEvent.class, event -> {
+        MinecraftServer.getGlobalEventHandler().addListener(InventoryPreClickEvent.class,
+                MythicPrison.getInstance().getPerformanceMonitor().timed("event.guiClick", event -> {
             // Only handle events for this specific inventory and player
             if (event.getInventory() == this.inventory && event.getPlayer() == this.player) {
                 event.setCancelled(true);
                 handleClick(event.getSlot(), event.getClick());
             }
-        });
+        }));
     }
     
     protected abstract void handleClick(int slot, Click click);
@@ -4,6 +4,7 @@ import mythic.prison.MythicPrison;
 import mythic.prison.data.enchants.PickaxeEnchant;
 import mythic.prison.managers.CurrencyManager;
 import mythic.prison.managers.PickaxeManager;
+import mythic.prison.utils.NumberFormatter;
 import net.minestom.server.entity.Player;
 import net.minestom.server.inventory.InventoryType;
 import net.minestom.server.inventory.click.Click;
@@ -75,7 +76,7 @@ public class PickaxeBulkUpgradeGUI extends BaseGUI {
 
         if (currentLevel < enchant.getMaxLevel()) {
             double nextCost = enchant.getCostForLevel(currentLevel + 1);
-            lore.add("§f§lNext Level Cost: §e" + formatCost(nextCost) + " " + currency);
+            lore.add("§f§lNext Level Cost: §e" + NumberFormatter.format(nextCost) + " " + currency);
         } else {
             lore.add("§c§lMAX LEVEL REACHED!");
         }
@@ -83,7 +84,7 @@ public class PickaxeBulkUpgradeGUI extends BaseGUI {
         double balance = currencyManager.getBalance(player, currency);
         String currencyColor = currencyManager.getCurrencyColor(currency);
         lore.add("");
-        lore.add("§f§lYour Balance: " + currencyColor + formatCost(balance) + " " + currency);
+        lore.add("§f§lYour Balance: " + currencyColor + NumberFormatter.format(balance) + " " + currency);
 
         return createItem(material, color + "§l" + enchant.getName(), lore);
     }
@@ -104,8 +105,8 @@ public class PickaxeBulkUpgradeGUI extends BaseGUI {
         List<String> lore = new ArrayList<>();
         lore.add("§7Upgrade by §a" + maxPossible + " §7levels");
         lore.add("");
-        lore.add("§7Total Cost: " + currencyColor + formatCost(totalCost) + " " + currency);
-        lore.add("§7Your Balance: " + currencyColor + formatCost(balance) + " " + currency);
+        lore.add("§7Total Cost: " + currencyColor + NumberFormatter.format(totalCost) + " " + currency);
+        lore.add("§7Your Balance: " + currencyColor + NumberFormatter.format(balance) + " " + currency);
         lore.add("");
 
         if (maxPossible < quantity) {
@@ -144,8 +145,8 @@ public class PickaxeBulkUpgradeGUI extends BaseGUI {
         lore.add("§7Upgrade to maximum possible level");
         lore.add("");
         lore.add("§7Levels to gain: §a" + maxAffordable);
-        lore.add("§7Total Cost: " + currencyColor + formatCost(totalCost) + " " + currency);
-        lore.add("§7Your Balance: " + currencyColor + formatCost(balance) + " " + currency);
+        lore.add("§7Total Cost: " + currencyColor + NumberFormatter.format(totalCost) + " " + currency);
+        lore.add("§7Your Balance: " + currencyColor + NumberFormatter.format(balance) + " " + currency);
         lore.add("");
 
         if (maxAffordable > 0) {
@@ -204,7 +205,7 @@ public class PickaxeBulkUpgradeGUI extends BaseGUI {
         double balance = currencyManager.getBalance(player, currency);
 
         if (balance < totalCost) {
-            player.sendMessage("§c§lInsufficient " + currency + "! You need " + formatCost(totalCost) + " " + currency + ".");
+            player.sendMessage("§c§lInsufficient " + currency + "! You need " + NumberFormatter.format(totalCost) + " " + currency + ".");
             return;
         }
 
@@ -318,15 +319,4 @@ public class PickaxeBulkUpgradeGUI extends BaseGUI {
         }
     }
 
-    private String formatCost(double cost) {
-        if (cost >= 1_000_000_000) {
-            return String.format("%.1fB", cost / 1_000_000_000);
-        } else if (cost >= 1_000_000) {
-            return String.format("%.1fM", cost / 1_000_000);
-        } else if (cost >= 1_000) {
-            return String.format("%.1fK", cost / 1_000);
-        } else {
-            return String.format("%.0f", cost);
-        }
-    }
 }
\ No newline at end of file
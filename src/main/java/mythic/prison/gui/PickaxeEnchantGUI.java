@@ -5,6 +5,7 @@ import mythic.prison.data.enchants.PickaxeEnchant;
 import mythic.prison.managers.CurrencyManager;
 import mythic.prison.managers.PickaxeManager;
 import mythic.prison.managers.PickaxeEffectsManager;
+import mythic.prison.utils.NumberFormatter;
 import net.minestom.server.entity.Player;
 import net.minestom.server.inventory.InventoryType;
 import net.minestom.server.inventory.click.Click;
@@ -118,7 +119,7 @@ public class PickaxeEnchantGUI extends BaseGUI {
             double cost = enchant.getCostForLevel(currentLevel + 1);
             String currency = showingTokenEnchants ? "tokens" : "souls";
             
-            lore.add("§f§lNext Level Cost: §e" + formatCost(cost) + " " + currency);
+            lore.add("§f§lNext Level Cost: §e" + NumberFormatter.format(cost) + " " + currency);
             lore.add("");
             lore.add("§a§lClick to upgrade!");
         } else {
@@ -369,15 +370,4 @@ public class PickaxeEnchantGUI extends BaseGUI {
         }
     }
 
-    private String formatCost(double cost) {
-        if (cost >= 1_000_000_000) {
-            return String.format("%.1fB", cost / 1_000_000_000);
-        } else if (cost >= 1_000_000) {
-            return String.format("%.1fM", cost / 1_000_000);
-        } else if (cost >= 1_000) {
-            return String.format("%.1fK", cost / 1_000);
-        } else {
-            return String.format("%.0f", cost);
-        }
-    }
 }
\ No newline at end of file
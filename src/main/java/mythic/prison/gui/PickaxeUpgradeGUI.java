@@ -5,6 +5,7 @@ import mythic.prison.data.enchants.PickaxeEnchant;
 import mythic.prison.managers.CurrencyManager;
 import mythic.prison.managers.PickaxeManager;
 import mythic.prison.utils.ChatUtil;
+import mythic.prison.utils.NumberFormatter;
 import net.minestom.server.entity.Player;
 import net.minestom.server.inventory.InventoryType;
 import net.minestom.server.inventory.click.Click;
@@ -80,10 +81,10 @@ public class PickaxeUpgradeGUI extends BaseGUI {
         
         List<String> lore = new ArrayList<>();
         lore.add("§7Upgrade Cost:");
-        lore.add("  §e" + formatCurrency(cost) + " " + currency);
+        lore.add("  §e" + NumberFormatter.format(cost) + " " + currency);
         lore.add("");
         lore.add("§7Your Balance:");
-        lore.add("  §e" + formatCurrency(playerBalance) + " " + currency);
+        lore.add("  §e" + NumberFormatter.format(playerBalance) + " " + currency);
         lore.add("");
         
         if (canAfford) {
@@ -91,7 +92,7 @@ public class PickaxeUpgradeGUI extends BaseGUI {
             return createItem(Material.EMERALD_BLOCK, "§a§lUpgrade Enchant", lore);
         } else {
             lore.add("§c§l✗ INSUFFICIENT FUNDS");
-            lore.add("§7Need §c" + formatCurrency(cost - playerBalance) + " §7more");
+            lore.add("§7Need §c" + NumberFormatter.format(cost - playerBalance) + " §7more");
             return createItem(Material.RED_CONCRETE, "§c§lCannot Upgrade", lore);
         }
     }
@@ -127,7 +128,7 @@ public class PickaxeUpgradeGUI extends BaseGUI {
         
         if (playerBalance < cost) {
             ChatUtil.sendError(player, "Insufficient " + currency + "! You need " + 
-                formatCurrency(cost) + " " + currency + ".");
+                NumberFormatter.format(cost) + " " + currency + ".");
             return;
         }
         
@@ -161,16 +162,4 @@ public class PickaxeUpgradeGUI extends BaseGUI {
             ChatUtil.sendError(player, "Failed to upgrade enchant!");
         }
     }
-    
-    private String formatCurrency(double cost) {
-        if (cost >= 1_000_000_000) {
-            return String.format("%.1fB", cost / 1_000_000_000);
-        } else if (cost >= 1_000_000) {
-            return String.format("%.1fM", cost / 1_000_000);
-        } else if (cost >= 1_000) {
-            return String.format("%.1fK", cost / 1_000);
-        } else {
-            return String.format("%.0f", cost);
-        }
-    }
 }
\ No newline at end of file
@@ -193,14 +193,29 @@ public void onQuit(PlayerDisconnectEvent event) {
         // Remove player from welcomed players set to allow welcome message on next join
         welcomedPlayers.remove(player.getUsername());
         
+        // Settle pending mining rewards so they are part of the final save
+        settleMiningSession(player);
+
         // Save player data before they leave
         savePlayerData(player);
         
-        // Remove passive effects if they have any
+        // Remove passive effects and compiled enchant procs
         removePassiveEffects(player);
         
         // Clean up player scoreboard
         cleanupPlayerScoreboard(player);
+
+        // Drop cached multiplier totals
+        var multiplierManager = MythicPrison.getInstance().getMultiplierManager();
+        if (multiplierManager != null) {
+            multiplierManager.removePlayer(player);
+        }
+
+        // Drop the pending action-bar summary
+        var hudManager = MythicPrison.getInstance().getHudManager();
+        if (hudManager != null) {
+            hudManager.removePlayer(player);
+        }
         
         System.out.println("[Quit] Player " + player.getUsername() + " left the game");
         
@@ -218,7 +233,7 @@ private void savePlayerData(Player player) {
             var profile = profileManager.getProfile(player.getUuid().toString());
             if (profile != null) {
                 profile.setLastSeen(System.currentTimeMillis());
-                profileManager.saveProfile(profile);
+                profileManager.flushProfile(profile);
             }
         }
         
@@ -230,11 +245,23 @@ private void savePlayerData(Player player) {
     }
 }
 
+private void settleMiningSession(Player player) {
+    try {
+        var miningSessionManager = MythicPrison.getInstance().getMiningSessionManager();
+        if (miningSessionManager != null) {
+            miningSessionManager.removePlayer(player);
+        }
+    } catch (Exception e) {
+        System.err.println("[JoinQuitListener] Error settling mining session: " + e.getMessage());
+    }
+}
+
 private void removePassiveEffects(Player player) {
     try {
         var effectsManager = MythicPrison.getInstance().getPickaxeEffectsManager();
         if (effectsManager != null) {
             effectsManager.removePassiveEffects(player);
+            effectsManager.invalidateEnchants(player);
         }
     } catch (Exception e) {
         System.err.println("[JoinQuitListener] Error removing passive effects: " + e.getMessage());
@@ -4,11 +4,8 @@ import mythic.prison.data.backpack.Backpack;
 import mythic.prison.MythicPrison;
 import mythic.prison.utils.ChatUtil;
 import net.minestom.server.entity.Player;
-import com.mongodb.client.MongoCollection;
-import com.mongodb.client.MongoDatabase;
 import org.bson.Document;
-import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.UpdateOptions;
+import mythic.prison.database.store.KeyValueStore;
 import mythic.prison.player.Profile;
 
 import java.util.Map;
@@ -18,16 +15,10 @@ import java.util.concurrent.CompletableFuture;
 public class BackpackManager {
 
     private final Map<String, Backpack> playerBackpacks = new ConcurrentHashMap<>();
-    private MongoCollection<Document> backpackCollection;
+    private final KeyValueStore backpackStore;
 
     public BackpackManager() {
-        // Initialize MongoDB collection for backpacks
-        try {
-            MongoDatabase database = MythicPrison.getInstance().getMongoManager().getDatabase();
-            this.backpackCollection = database.getCollection("backpacks");
-        } catch (Exception e) {
-            System.err.println("[BackpackManager] Failed to initialize database connection: " + e.getMessage());
-        }
+        this.backpackStore = MythicPrison.getInstance().getProfileStore().open("backpacks", "playerUUID");
     }
 
     public void initializePlayer(Player player) {
@@ -96,17 +87,10 @@ public class BackpackManager {
             return;
         }
 
-        double totalValue = 0;
-        int totalBlocks = 0;
-
-        // Calculate total value
-        for (Map.Entry<String, Integer> entry : backpack.getBlocks().entrySet()) {
-            String blockType = entry.getKey();
-            int amount = entry.getValue();
-            double blockValue = getBlockValue(blockType);
-            totalValue += blockValue * amount * backpack.getSellMultiplier();
-            totalBlocks += amount;
-        }
+        // One pass over the material counts against the configured sell prices
+        double[] prices = MythicPrison.getInstance().getBlockValueTable().getMaterialSellPrices();
+        double totalValue = backpack.getTotalValue(prices) * backpack.getSellMultiplier();
+        int totalBlocks = backpack.getCurrentVolume();
 
         // Add money to player
         var currencyManager = MythicPrison.getInstance().getCurrencyManager();
@@ -221,25 +205,22 @@ public class BackpackManager {
     private CompletableFuture<Backpack> loadBackpackFromDatabase(String uuid) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                if (backpackCollection == null) return null;
-                
-                Document doc = backpackCollection.find(Filters.eq("playerUUID", uuid)).first();
+                Document doc = backpackStore.get(uuid);
                 if (doc != null) {
                     Backpack backpack = new Backpack(uuid);
                     
-                    // Use proper MongoDB Document methods with null checks
+                    // Use Document getters with null checks
                     backpack.setMaxVolume(doc.getInteger("maxVolume") != null ? doc.getInteger("maxVolume") : 1000);
-                    backpack.setCurrentVolume(doc.getInteger("currentVolume") != null ? doc.getInteger("currentVolume") : 0);
                     backpack.setSellMultiplier(doc.getDouble("sellMultiplier") != null ? doc.getDouble("sellMultiplier") : 1.0);
                     backpack.setAutoSellEnabled(doc.getBoolean("autoSellEnabled") != null ? doc.getBoolean("autoSellEnabled") : false);
                     backpack.setAutoSellInterval(doc.getInteger("autoSellInterval") != null ? doc.getInteger("autoSellInterval") : 60);
                     
-                    // Load blocks
+                    // Load blocks (currentVolume is rebuilt from the counts)
                     Document blocksDoc = doc.get("blocks", Document.class);
                     if (blocksDoc != null) {
                         for (Map.Entry<String, Object> entry : blocksDoc.entrySet()) {
-                            if (entry.getValue() instanceof Integer) {
-                                backpack.addBlock(entry.getKey(), (Integer) entry.getValue());
+                            if (entry.getValue() instanceof Number amount) {
+                                backpack.addBlock(entry.getKey(), amount.intValue());
                             }
                         }
                     }
@@ -254,27 +235,20 @@ public class BackpackManager {
     }
 
     private void saveBackpackToDatabase(Backpack backpack) {
-        if (backpackCollection == null) return;
-        
-        CompletableFuture.runAsync(() -> {
-            try {
-                Document doc = new Document("playerUUID", backpack.getPlayerUUID())
-                    .append("maxVolume", backpack.getMaxVolume())
-                    .append("currentVolume", backpack.getCurrentVolume())
-                    .append("sellMultiplier", backpack.getSellMultiplier())
-                    .append("autoSellEnabled", backpack.isAutoSellEnabled())
-                    .append("autoSellInterval", backpack.getAutoSellInterval())
-                    .append("blocks", new Document(backpack.getBlocks()));
-                
-                backpackCollection.replaceOne(
-                    Filters.eq("playerUUID", backpack.getPlayerUUID()),
-                    doc,
-                    new com.mongodb.client.model.ReplaceOptions().upsert(true)
-                );
-            } catch (Exception e) {
-                System.err.println("[BackpackManager] Error saving backpack for " + backpack.getPlayerUUID() + ": " + e.getMessage());
-            }
-        });
+        try {
+            // Snapshot on the caller's thread, the store may batch the write
+            Document doc = new Document("playerUUID", backpack.getPlayerUUID())
+                .append("maxVolume", backpack.getMaxVolume())
+                .append("currentVolume", backpack.getCurrentVolume())
+                .append("sellMultiplier", backpack.getSellMultiplier())
+                .append("autoSellEnabled", backpack.isAutoSellEnabled())
+                .append("autoSellInterval", backpack.getAutoSellInterval())
+                .append("blocks", new Document(backpack.getBlocks()));
+            
+            backpackStore.put(backpack.getPlayerUUID(), doc);
+        } catch (Exception e) {
+            System.err.println("[BackpackManager] Error saving backpack for " + backpack.getPlayerUUID() + ": " + e.getMessage());
+        }
     }
 
     public void saveAllBackpacks() {
@@ -283,20 +257,6 @@ public class BackpackManager {
         }
     }
 
-    private double getBlockValue(String blockType) {
-        // Base block values - you can expand this
-        return switch (blockType.toLowerCase()) {
-            case "cobblestone" -> 1.0;
-            case "stone" -> 1.5;
-            case "coal_ore" -> 5.0;
-            case "iron_ore" -> 10.0;
-            case "gold_ore" -> 25.0;
-            case "diamond_ore" -> 100.0;
-            case "emerald_ore" -> 250.0;
-            default -> 1.0;
-        };
-    }
-
     private double calculateUpgradeCost(String upgradeType, int currentLevel) {
         return switch (upgradeType) {
             case "capacity" -> 10000 * Math.pow(1.5, currentLevel / 1000);
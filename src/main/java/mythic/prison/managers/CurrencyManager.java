@@ -1,7 +1,9 @@
 package mythic.prison.managers;
 
 import mythic.prison.MythicPrison;
+import mythic.prison.data.milestones.Milestone.MilestoneType;
 import mythic.prison.data.player.PlayerProfile;
+import mythic.prison.utils.NumberFormatter;
 import net.minestom.server.entity.Player;
 
 import java.util.Map;
@@ -63,6 +65,16 @@ public class CurrencyManager {
         if (success && "money".equals(currency)) {
             profile.addMoneyEarned(amount);
         }
+
+        // One threshold comparison unless a milestone is crossed
+        MilestoneManager milestoneManager = MythicPrison.getInstance().getMilestoneManager();
+        if (success && milestoneManager != null) {
+            if ("money".equals(currency)) {
+                milestoneManager.checkProgress(player, MilestoneType.MONEY_EARNED, (long) profile.getTotalMoneyEarned());
+            } else if ("tokens".equals(currency)) {
+                milestoneManager.checkProgress(player, MilestoneType.TOKENS_EARNED);
+            }
+        }
         
         // ADD THIS: Save the profile after updating
         MythicPrison.getInstance().getProfileManager().saveProfile(profile);
@@ -147,209 +159,14 @@ public class CurrencyManager {
             if ("money".equals(currency.toLowerCase())) {
                 return color + symbol + formatMoney(amount);
             } else {
-                return color + icon + " " + formatNumber(amount);
+                return color + icon + " " + NumberFormatter.format(amount);
             }
         }
-        return "§7" + formatNumber(amount);
+        return "§7" + NumberFormatter.format(amount);
     }
 
     public String formatMoney(double amount) {
-        return formatLargeNumber(amount, true);
-    }
-
-    private String formatNumber(double number) {
-        // Handle whole numbers without decimal places
-        if (number == Math.floor(number) && !Double.isInfinite(number)) {
-            // It's a whole number, format without decimals
-            if (number >= 1e30) { // Nonillions
-                double nonillions = number / 1e30;
-                if (nonillions == Math.floor(nonillions)) {
-                    return String.format("%.0fn", nonillions);
-                } else {
-                    return String.format("%.1fn", nonillions);
-                }
-            } else if (number >= 1e27) { // Octillions
-                double octillions = number / 1e27;
-                if (octillions == Math.floor(octillions)) {
-                    return String.format("%.0fo", octillions);
-                } else {
-                    return String.format("%.1fo", octillions);
-                }
-            } else if (number >= 1e24) { // Septillions
-                double septillions = number / 1e24;
-                if (septillions == Math.floor(septillions)) {
-                    return String.format("%.0fss", septillions);
-                } else {
-                    return String.format("%.1fss", septillions);
-                }
-            } else if (number >= 1e21) { // Sextillions
-                double sextillions = number / 1e21;
-                if (sextillions == Math.floor(sextillions)) {
-                    return String.format("%.0fs", sextillions);
-                } else {
-                    return String.format("%.1fs", sextillions);
-                }
-            } else if (number >= 1e18) { // Quintillions
-                double quintillions = number / 1e18;
-                if (quintillions == Math.floor(quintillions)) {
-                    return String.format("%.0fqq", quintillions);
-                } else {
-                    return String.format("%.1fqq", quintillions);
-                }
-            } else if (number >= 1_000_000_000_000_000L) { // Quadrillions
-                double quadrillions = number / 1_000_000_000_000_000L;
-                if (quadrillions == Math.floor(quadrillions)) {
-                    return String.format("%.0fqd", quadrillions);
-                } else {
-                    return String.format("%.1fqd", quadrillions);
-                }
-            } else if (number >= 1_000_000_000_000L) { // Trillions
-                double trillions = number / 1_000_000_000_000L;
-                if (trillions == Math.floor(trillions)) {
-                    return String.format("%.0ft", trillions);
-                } else {
-                    return String.format("%.1ft", trillions);
-                }
-            } else if (number >= 1_000_000_000) { // Billions
-                double billions = number / 1_000_000_000;
-                if (billions == Math.floor(billions)) {
-                    return String.format("%.0fb", billions);
-                } else {
-                    return String.format("%.1fb", billions);
-                }
-            } else if (number >= 1_000_000) { // Millions
-                double millions = number / 1_000_000;
-                if (millions == Math.floor(millions)) {
-                    return String.format("%.0fm", millions);
-                } else {
-                    return String.format("%.1fm", millions);
-                }
-            } else if (number >= 1_000) { // Thousands
-                double thousands = number / 1_000;
-                if (thousands == Math.floor(thousands)) {
-                    return String.format("%.0fk", thousands);
-                } else {
-                    return String.format("%.1fk", thousands);
-                }
-            } else {
-                return String.format("%.0f", number);
-            }
-        } else {
-            // It has decimal places, format normally
-            if (number >= 1e30) {
-                return String.format("%.1fn", number / 1e30);
-            } else if (number >= 1e27) {
-                return String.format("%.1fo", number / 1e27);
-            } else if (number >= 1e24) {
-                return String.format("%.1fss", number / 1e24);
-            } else if (number >= 1e21) {
-                return String.format("%.1fs", number / 1e21);
-            } else if (number >= 1e18) {
-                return String.format("%.1fqq", number / 1e18);
-            } else if (number >= 1_000_000_000_000_000L) {
-                return String.format("%.1fqd", number / 1_000_000_000_000_000L);
-            } else if (number >= 1_000_000_000_000L) {
-                return String.format("%.1ft", number / 1_000_000_000_000L);
-            } else if (number >= 1_000_000_000) {
-                return String.format("%.1fb", number / 1_000_000_000);
-            } else if (number >= 1_000_000) {
-                return String.format("%.1fm", number / 1_000_000);
-            } else if (number >= 1_000) {
-                return String.format("%.1fk", number / 1_000);
-            } else {
-                return String.format("%.2f", number);
-            }
-        }
-    }
-
-    /**
-     * Formats large numbers with appropriate suffixes
-     * Supports up to octodecillion (1e57)
-     */
-    private String formatLargeNumber(double amount, boolean isMoney) {
-        if (amount < 0) {
-            return "-" + formatLargeNumber(-amount, isMoney);
-        }
-
-        // Debug: Let's test the logic with specific values
-        // System.out.println("Formatting amount: " + amount);
-
-        // Use long values for exact comparisons to avoid floating point issues
-        if (amount >= 1000000000000L) { // 1 trillion (1e12)
-            if (amount >= 1e57) {
-                return formatWithSuffix(amount, 1e57, "OC", isMoney); // Octodecillion
-            } else if (amount >= 1e54) {
-                return formatWithSuffix(amount, 1e54, "SP", isMoney); // Septendecillion
-            } else if (amount >= 1e51) {
-                return formatWithSuffix(amount, 1e51, "SD", isMoney); // Sexdecillion
-            } else if (amount >= 1e48) {
-                return formatWithSuffix(amount, 1e48, "QN", isMoney); // Quindecillion
-            } else if (amount >= 1e45) {
-                return formatWithSuffix(amount, 1e45, "QT", isMoney); // Quattuordecillion
-            } else if (amount >= 1e42) {
-                return formatWithSuffix(amount, 1e42, "TR", isMoney); // Tredecillion
-            } else if (amount >= 1e39) {
-                return formatWithSuffix(amount, 1e39, "DD", isMoney); // Duodecillion
-            } else if (amount >= 1e36) {
-                return formatWithSuffix(amount, 1e36, "UN", isMoney); // Undecillion
-            } else if (amount >= 1e33) {
-                return formatWithSuffix(amount, 1e33, "D", isMoney); // Decillion
-            } else if (amount >= 1e30) {
-                return formatWithSuffix(amount, 1e30, "N", isMoney); // Nonillion
-            } else if (amount >= 1e27) {
-                return formatWithSuffix(amount, 1e27, "O", isMoney); // Octillion
-            } else if (amount >= 1e24) {
-                return formatWithSuffix(amount, 1e24, "SS", isMoney); // Septillion
-            } else if (amount >= 1e21) {
-                return formatWithSuffix(amount, 1e21, "S", isMoney); // Sextillion
-            } else if (amount >= 1e18) {
-                return formatWithSuffix(amount, 1e18, "QQ", isMoney); // Quintillion
-            } else if (amount >= 1e15) {
-                return formatWithSuffix(amount, 1e15, "Q", isMoney); // Quadrillion
-            } else {
-                return formatWithSuffix(amount, 1e12, "T", isMoney); // Trillion
-            }
-        } else if (amount >= 1000000000L) { // 1 billion (1e9)
-            return formatWithSuffix(amount, 1e9, "B", isMoney); // Billion
-        } else if (amount >= 1000000L) { // 1 million (1e6)
-            return formatWithSuffix(amount, 1e6, "M", isMoney); // Million
-        } else if (amount >= 1000L) { // 1 thousand (1e3)
-            return formatWithSuffix(amount, 1e3, "K", isMoney); // Thousand
-        } else {
-            // Format small numbers
-            if (isMoney) {
-                return String.format("%.2f", amount);
-            } else {
-                if (amount == (long) amount) {
-                    return String.format("%.0f", amount);
-                } else {
-                    return String.format("%.1f", amount);
-                }
-            }
-        }
-    }
-
-    /**
-     * Helper method to format a number with a specific suffix and divisor
-     */
-    private String formatWithSuffix(double amount, double divisor, String suffix, boolean isMoney) {
-        double scaledAmount = amount / divisor;
-        
-        if (isMoney) {
-            if (scaledAmount >= 100) {
-                return String.format("%.0f%s", scaledAmount, suffix);
-            } else if (scaledAmount >= 10) {
-                return String.format("%.1f%s", scaledAmount, suffix);
-            } else {
-                return String.format("%.2f%s", scaledAmount, suffix);
-            }
-        } else {
-            if (scaledAmount >= 100) {
-                return String.format("%.0f%s", scaledAmount, suffix);
-            } else {
-                return String.format("%.1f%s", scaledAmount, suffix);
-            }
-        }
+        return NumberFormatter.formatMoney(amount);
     }
 
     // Get all currencies with positive balance
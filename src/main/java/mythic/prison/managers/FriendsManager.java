@@ -1,12 +1,9 @@
 package mythic.prison.managers;
 
-import com.mongodb.client.MongoCollection;
-import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.ReplaceOptions;
-import com.mongodb.client.model.Updates;
 import mythic.prison.MythicPrison;
 import mythic.prison.data.social.Friend;
 import mythic.prison.data.social.FriendRequest;
+import mythic.prison.database.store.KeyValueStore;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
@@ -25,23 +22,12 @@ import java.util.stream.Collectors;
 public class FriendsManager {
     private final Map<String, List<Friend>> friendsCache = new ConcurrentHashMap<>();
     private final Map<String, List<FriendRequest>> requestsCache = new ConcurrentHashMap<>();
-    private MongoCollection<Document> friendsCollection;
-    private MongoCollection<Document> requestsCollection;
+    private final KeyValueStore friendsStore;
+    private final KeyValueStore requestsStore;
 
     public FriendsManager() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                if (MythicPrison.getInstance().getMongoManager() != null) {
-                    this.friendsCollection = MythicPrison.getInstance().getMongoManager()
-                            .getDatabase().getCollection("friends");
-                    this.requestsCollection = MythicPrison.getInstance().getMongoManager()
-                            .getDatabase().getCollection("friend_requests");
-                    System.out.println("[FriendsManager] Connected to MongoDB collections");
-                }
-            } catch (Exception e) {
-                System.err.println("[FriendsManager] Failed to initialize MongoDB: " + e.getMessage());
-            }
-        });
+        this.friendsStore = MythicPrison.getInstance().getProfileStore().open("friends", "uuid");
+        this.requestsStore = MythicPrison.getInstance().getProfileStore().open("friend_requests", "fromUuid", "toUuid");
     }
 
     public void initializePlayer(Player player) {
@@ -433,9 +419,7 @@ public class FriendsManager {
     private CompletableFuture<List<Friend>> loadFriendsFromDatabase(String uuid) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                if (friendsCollection == null) return new ArrayList<>();
-
-                Document doc = friendsCollection.find(Filters.eq("uuid", uuid)).first();
+                Document doc = friendsStore.get(uuid);
                 if (doc != null) {
                     List<Document> friendDocs = doc.getList("friends", Document.class);
                     if (friendDocs != null) {
@@ -454,11 +438,8 @@ public class FriendsManager {
     private CompletableFuture<List<FriendRequest>> loadRequestsFromDatabase(String uuid) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                if (requestsCollection == null) return new ArrayList<>();
-
-                List<Document> docs = requestsCollection.find(
-                        Filters.or(Filters.eq("fromUuid", uuid), Filters.eq("toUuid", uuid))
-                ).into(new ArrayList<>());
+                List<Document> docs = new ArrayList<>(requestsStore.findBy("fromUuid", uuid));
+                docs.addAll(requestsStore.findBy("toUuid", uuid));
 
                 return docs.stream()
                         .map(this::documentToRequest)
@@ -471,59 +452,39 @@ public class FriendsManager {
     }
 
     private void saveFriendsToDatabase(String uuid, List<Friend> friends) {
-        if (friendsCollection == null || friends == null) return;
+        if (friends == null) return;
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                List<Document> friendDocs = friends.stream()
-                        .map(this::friendToDocument)
-                        .collect(Collectors.toList());
+        try {
+            List<Document> friendDocs = friends.stream()
+                    .map(this::friendToDocument)
+                    .collect(Collectors.toList());
 
-                Document doc = new Document("uuid", uuid).append("friends", friendDocs);
+            Document doc = new Document("uuid", uuid).append("friends", friendDocs);
 
-                friendsCollection.replaceOne(
-                        Filters.eq("uuid", uuid),
-                        doc,
-                        new ReplaceOptions().upsert(true)
-                );
-            } catch (Exception e) {
-                System.err.println("[FriendsManager] Error saving friends for " + uuid + ": " + e.getMessage());
-            }
-        });
+            friendsStore.put(uuid, doc);
+        } catch (Exception e) {
+            System.err.println("[FriendsManager] Error saving friends for " + uuid + ": " + e.getMessage());
+        }
     }
 
     private void saveRequestsToDatabase(String uuid, List<FriendRequest> requests) {
-        if (requestsCollection == null || requests == null) return;
+        if (requests == null) return;
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                for (FriendRequest request : requests) {
-                    saveRequestToDatabase(request);
-                }
-            } catch (Exception e) {
-                System.err.println("[FriendsManager] Error saving requests for " + uuid + ": " + e.getMessage());
+        try {
+            for (FriendRequest request : requests) {
+                saveRequestToDatabase(request);
             }
-        });
+        } catch (Exception e) {
+            System.err.println("[FriendsManager] Error saving requests for " + uuid + ": " + e.getMessage());
+        }
     }
 
     private void saveRequestToDatabase(FriendRequest request) {
-        if (requestsCollection == null) return;
-
-        CompletableFuture.runAsync(() -> {
-            try {
-                Document doc = requestToDocument(request);
-                requestsCollection.replaceOne(
-                        Filters.and(
-                                Filters.eq("fromUuid", request.getFromUuid()),
-                                Filters.eq("toUuid", request.getToUuid())
-                        ),
-                        doc,
-                        new ReplaceOptions().upsert(true)
-                );
-            } catch (Exception e) {
-                System.err.println("[FriendsManager] Error saving request: " + e.getMessage());
-            }
-        });
+        try {
+            requestsStore.put(request.getFromUuid() + ":" + request.getToUuid(), requestToDocument(request));
+        } catch (Exception e) {
+            System.err.println("[FriendsManager] Error saving request: " + e.getMessage());
+        }
     }
 
     // Document conversion methods
@@ -0,0 +1,119 @@
+package mythic.prison.managers;
+
+import mythic.prison.MythicPrison;
+import mythic.prison.utils.NumberFormatter;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.timer.TaskSchedule;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects enchant procs and currency gains per player and shows them as one
+ * action-bar summary per interval instead of a chat message per proc.
+ */
+public class HudManager {
+
+    // Render interval in ticks; 20 renders once per second
+    private static final int RENDER_INTERVAL_TICKS = Integer.getInteger("mythic.hud.intervalTicks", 20);
+
+    private final Map<Player, HudSummary> summaries = new ConcurrentHashMap<>();
+
+    public HudManager() {
+        MinecraftServer.getSchedulerManager()
+                .buildTask(MythicPrison.getInstance().getPerformanceMonitor().timedTask("task.hud", this::renderAll))
+                .repeat(TaskSchedule.tick(Math.max(1, RENDER_INTERVAL_TICKS)))
+                .schedule();
+
+        System.out.println("[HudManager] Manager initialized (render every " + Math.max(1, RENDER_INTERVAL_TICKS) + " ticks)");
+    }
+
+    public void recordProc(Player player) {
+        summaryOf(player).addProc();
+    }
+
+    public void addCurrency(Player player, String currency, double amount) {
+        if (amount <= 0) return;
+        summaryOf(player).addCurrency(currency, amount);
+    }
+
+    public void addExperience(Player player, long experience) {
+        if (experience <= 0) return;
+        summaryOf(player).addExperience(experience);
+    }
+
+    // Drops anything not yet shown; call on quit
+    public void removePlayer(Player player) {
+        summaries.remove(player);
+    }
+
+    private HudSummary summaryOf(Player player) {
+        return summaries.computeIfAbsent(player, p -> new HudSummary());
+    }
+
+    private void renderAll() {
+        for (Map.Entry<Player, HudSummary> entry : summaries.entrySet()) {
+            String line = entry.getValue().drain();
+            if (line == null) continue;
+
+            try {
+                entry.getKey().sendActionBar(LegacyComponentSerializer.legacySection().deserialize(line));
+            } catch (Exception e) {
+                System.err.println("[HudManager] Error rendering HUD for " + entry.getKey().getUsername() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static class HudSummary {
+        private double money;
+        private double tokens;
+        private double souls;
+        private long experience;
+        private int procs;
+
+        synchronized void addProc() {
+            procs++;
+        }
+
+        synchronized void addCurrency(String currency, double amount) {
+            switch (currency.toLowerCase()) {
+                case "money" -> money += amount;
+                case "tokens" -> tokens += amount;
+                case "souls" -> souls += amount;
+                default -> { }
+            }
+        }
+
+        synchronized void addExperience(long amount) {
+            experience += amount;
+        }
+
+        // Renders and resets the summary, or returns null if nothing happened this interval
+        synchronized String drain() {
+            if (money <= 0 && tokens <= 0 && souls <= 0 && experience <= 0 && procs == 0) {
+                return null;
+            }
+
+            StringBuilder line = new StringBuilder();
+            if (money > 0) append(line, "§a+$" + NumberFormatter.format(money));
+            if (tokens > 0) append(line, "§6⚡+" + NumberFormatter.format(tokens));
+            if (souls > 0) append(line, "§5👻+" + NumberFormatter.format(souls));
+            if (experience > 0) append(line, "§e+" + experience + " XP");
+            if (procs > 0) append(line, "§7(x" + procs + (procs == 1 ? " proc)" : " procs)"));
+
+            money = 0;
+            tokens = 0;
+            souls = 0;
+            experience = 0;
+            procs = 0;
+            return line.toString();
+        }
+
+        private static void append(StringBuilder line, String part) {
+            if (line.length() > 0) line.append(' ');
+            line.append(part);
+        }
+    }
+}
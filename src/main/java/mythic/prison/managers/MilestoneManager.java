@@ -16,9 +16,21 @@ public class MilestoneManager {
 
     private final Map<String, PlayerMilestones> playerMilestones = new ConcurrentHashMap<>();
     private final List<Milestone> availableMilestones = new ArrayList<>();
+    // Milestones grouped by type and sorted by target, built once after initialization
+    private final Map<MilestoneType, List<Milestone>> milestonesByType = new EnumMap<>(MilestoneType.class);
 
     public MilestoneManager() {
         initializeMilestones();
+        buildIndex();
+    }
+
+    private void buildIndex() {
+        for (Milestone milestone : availableMilestones) {
+            milestonesByType.computeIfAbsent(milestone.getType(), type -> new ArrayList<>()).add(milestone);
+        }
+        for (List<Milestone> milestones : milestonesByType.values()) {
+            milestones.sort(Comparator.comparingLong(Milestone::getTargetValue));
+        }
     }
 
     private void initializeMilestones() {
@@ -78,36 +90,83 @@ public class MilestoneManager {
 
     public void checkMilestones(Object player) {
         try {
-            String uuid = getPlayerUUID(player);
-            initializePlayer(player);
-
-            PlayerMilestones milestones = playerMilestones.get(uuid);
-            if (milestones == null) return;
-
+            if (!(player instanceof Player p)) return;
             StatsManager statsManager = MythicPrison.getInstance().getStatsManager();
 
-            for (Milestone milestone : availableMilestones) {
-                if (milestones.isCompleted(milestone.getId())) continue;
-
-                long currentProgress = getCurrentProgress(player, milestone, statsManager);
-                if (currentProgress >= milestone.getTargetValue()) {
-                    completeMilestone(player, milestone);
-                }
+            // Progress is read once per type, not once per milestone
+            for (MilestoneType type : milestonesByType.keySet()) {
+                checkProgress(p, type, getCurrentProgress(p, type, statsManager));
             }
         } catch (Exception e) {
             System.err.println("Error checking milestones: " + e.getMessage());
         }
     }
 
-    private void completeMilestone(Object player, Milestone milestone) {
+    /**
+     * Checks one type against the player's current progress for it; call wherever that progress changes.
+     */
+    public void checkProgress(Player player, MilestoneType type) {
         try {
-            String uuid = getPlayerUUID(player);
-            String username = getPlayerUsername(player);
+            checkProgress(player, type, getCurrentProgress(player, type, MythicPrison.getInstance().getStatsManager()));
+        } catch (Exception e) {
+            System.err.println("Error checking milestones: " + e.getMessage());
+        }
+    }
 
+    /**
+     * Fast path for stat updates: a single comparison against the player's next threshold
+     * for this type; milestones of the type are only evaluated once it is crossed.
+     */
+    public void checkProgress(Player player, MilestoneType type, long progress) {
+        try {
+            String uuid = player.getUuid().toString();
             PlayerMilestones milestones = playerMilestones.get(uuid);
-            if (milestones == null) return;
+            if (milestones == null) {
+                initializePlayer(player);
+                milestones = playerMilestones.get(uuid);
+            }
 
-            milestones.completeMilestone(milestone.getId());
+            if (progress < milestones.getNextThreshold(type)) return;
+            evaluateType(player, milestones, type, progress);
+        } catch (Exception e) {
+            System.err.println("Error checking milestones: " + e.getMessage());
+        }
+    }
+
+    private void evaluateType(Player player, PlayerMilestones milestones, MilestoneType type, long progress) {
+        List<Milestone> candidates = milestonesByType.get(type);
+        if (candidates == null) {
+            milestones.setNextThreshold(type, Long.MAX_VALUE);
+            return;
+        }
+
+        List<Milestone> completed = new ArrayList<>();
+        long nextThreshold = Long.MAX_VALUE;
+
+        synchronized (milestones) {
+            for (Milestone milestone : candidates) {
+                int completions = milestones.getCompletionCount(milestone.getId());
+                long target = milestone.getTargetValue(completions);
+
+                // Repeatable milestones can be completed several times by one big jump
+                while (target <= progress) {
+                    milestones.completeMilestone(milestone.getId());
+                    completed.add(milestone);
+                    target = milestone.getTargetValue(++completions);
+                }
+                nextThreshold = Math.min(nextThreshold, target);
+            }
+            milestones.setNextThreshold(type, nextThreshold);
+        }
+
+        for (Milestone milestone : completed) {
+            announceMilestone(player, milestone);
+        }
+    }
+
+    private void announceMilestone(Object player, Milestone milestone) {
+        try {
+            String username = getPlayerUsername(player);
 
             if (player instanceof Player p) {
                 ChatUtil.sendMessage(p, "§a§l✓ MILESTONE COMPLETED!");
@@ -156,7 +215,7 @@ public class MilestoneManager {
             for (Milestone milestone : incomplete) {
                 if (shown >= 5) break;
 
-                long current = getCurrentProgress(player, milestone, statsManager);
+                long current = getCurrentProgress(p, milestone.getType(), statsManager);
                 long required = milestone.getTargetValue();
                 double progress = Math.min(100.0, (double) current / required * 100.0);
 
@@ -193,14 +252,8 @@ public class MilestoneManager {
         return bar.toString();
     }
 
-private long getCurrentProgress(Object player, Milestone milestone, StatsManager statsManager) {
-    // Convert Object to Player - assuming it's a Player object
-    if (!(player instanceof net.minestom.server.entity.Player minestomPlayer)) {
-        return 0;
-    }
-    
+private long getCurrentProgress(Player minestomPlayer, MilestoneType milestoneType, StatsManager statsManager) {
     // Get progress based on milestone type using enum values
-    MilestoneType milestoneType = milestone.getType();
     MythicPrison plugin = MythicPrison.getInstance();
     
     switch (milestoneType) {
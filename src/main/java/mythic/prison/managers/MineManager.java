@@ -1,6 +1,7 @@
 package mythic.prison.managers;
 
 import mythic.prison.MythicPrison;
+import mythic.prison.data.mine.MineAccessIndex;
 import mythic.prison.data.mine.PrivateMine;
 import mythic.prison.managers.SchematicWorldManager.SchematicWorld;
 import net.minestom.server.entity.Player;
@@ -18,6 +19,7 @@ public class MineManager {
 
     private final Map<String, PrivateMine> privateMines = new ConcurrentHashMap<>();
     private final Map<String, String> playerMines = new ConcurrentHashMap<>();
+    private final MineAccessIndex accessIndex = new MineAccessIndex();
 
     public void initializePlayer(Player player) {
         // Automatically create a mine for new players
@@ -160,7 +162,7 @@ public class MineManager {
         }
         
         PrivateMine targetMine = getPlayerMine(targetPlayer);
-        if (targetMine != null && targetMine.canPlayerAccess(player.getUuid().toString())) {
+        if (targetMine != null && targetMine.canPlayerAccess(player.getUuid())) {
             targetMine.teleportPlayer(player);
         }
     }
@@ -179,6 +181,14 @@ public class MineManager {
         return privateMines.get(id);
     }
 
+    public PrivateMine getMineByInstance(Instance instance) {
+        return accessIndex.getMine(instance);
+    }
+
+    public MineAccessIndex getAccessIndex() {
+        return accessIndex;
+    }
+
     private Player findPlayerByName(String playerName) {
         for (Player onlinePlayer : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
             if (onlinePlayer.getUsername().equalsIgnoreCase(playerName)) {
@@ -188,20 +198,6 @@ public class MineManager {
         return null;
     }
 
-    public void onBlockBreak(Player player, String blockType) {
-        PrivateMine mine = getPlayerMine(player);
-        if (mine != null) {
-            // Handle block break in the player's mine
-            mine.onBlockBreak(blockType);
-            
-            // Apply mine-specific multipliers
-            double mineMultiplier = mine.getMultiplier();
-            
-            // You can add additional mine-specific logic here
-            // For example, beacon effects, special drops, etc.
-        }
-    }
-
 private void executeGo(Player player) {
     System.out.println("[MineCommand] NUCLEAR OPTION - Creating brand new mine instance");
     
@@ -0,0 +1,282 @@
+package mythic.prison.managers;
+
+import mythic.prison.MythicPrison;
+import mythic.prison.data.mine.BlockSampler;
+import mythic.prison.data.mine.MineRegion;
+import mythic.prison.data.mine.PrivateMine;
+import mythic.prison.data.schematic.TemplateChunk;
+import mythic.prison.metrics.PerformanceMonitor;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.timer.TaskSchedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Refills mine regions from their block composition. Each reset is a job that is filled one chunk
+ * section at a time on the tick thread; all jobs share one block budget per tick, so many mines
+ * resetting together spread over more ticks instead of making one tick long. Every filled section
+ * is written straight into the section palette and sent to viewers as a single multi-block change.
+ */
+public class MineRegenerationManager {
+
+    // Blocks written per tick across all running jobs
+    private static final int BLOCKS_PER_TICK = Integer.getInteger("mythic.regen.blocksPerTick", 32_768);
+    // Timed reset for mines that have been mined at all; 0 disables it
+    private static final long RESET_INTERVAL_MS = Long.getLong("mythic.regen.intervalSeconds", 600L) * 1000L;
+    private static final int CHECK_INTERVAL_TICKS = 20;
+    private static final int SECTION_VOLUME = 16 * 16 * 16;
+
+    private final Queue<RegenJob> submitted = new ConcurrentLinkedQueue<>();
+    // Owners with a queued or running job
+    private final Set<Object> pending = ConcurrentHashMap.newKeySet();
+    // Only touched by the regen task
+    private final List<RegenJob> active = new ArrayList<>();
+    private int cursor;
+
+    public MineRegenerationManager() {
+        PerformanceMonitor monitor = MythicPrison.getInstance().getPerformanceMonitor();
+        MinecraftServer.getSchedulerManager()
+                .buildTask(monitor.timedTask("task.mineRegen", this::tick))
+                .repeat(TaskSchedule.tick(1))
+                .schedule();
+        MinecraftServer.getSchedulerManager()
+                .buildTask(monitor.timedTask("task.mineRegenCheck", this::checkPrivateMines))
+                .repeat(TaskSchedule.tick(CHECK_INTERVAL_TICKS))
+                .schedule();
+
+        System.out.println("[MineRegenerationManager] Manager initialized (" + BLOCKS_PER_TICK + " blocks/tick, timed reset every "
+                + RESET_INTERVAL_MS / 1000 + "s)");
+    }
+
+    /**
+     * Queues a refill of the region.
+     *
+     * @param owner      identifies the mine; a second request while one is queued or running is ignored
+     * @param sampler    the mine's compiled block composition
+     * @param safePoint  where players standing inside the region are moved before filling, or null
+     * @param onComplete run on the tick thread once every section has been written
+     * @return false if the owner already has a job or there is nothing to fill with
+     */
+    public boolean regenerate(Object owner, Instance instance, MineRegion region, BlockSampler sampler,
+                              Pos safePoint, Runnable onComplete) {
+        if (sampler == null) {
+            System.err.println("[MineRegenerationManager] Mine has no known blocks in its composition, not regenerating");
+            return false;
+        }
+        if (!pending.add(owner)) {
+            return false;
+        }
+
+        submitted.add(new RegenJob(owner, instance, region, sampler, safePoint, onComplete));
+        return true;
+    }
+
+    public boolean isRegenerating(Object owner) {
+        return pending.contains(owner);
+    }
+
+    public int getPendingJobs() {
+        return pending.size();
+    }
+
+    private void tick() {
+        RegenJob job;
+        while ((job = submitted.poll()) != null) {
+            job.start();
+            active.add(job);
+        }
+        if (active.isEmpty()) return;
+
+        int count = active.size();
+        int budget = BLOCKS_PER_TICK;
+        int share = Math.max(SECTION_VOLUME, budget / count);
+
+        // Start where the last tick stopped so every job gets its turn
+        int visited = 0;
+        for (; visited < count && budget > 0; visited++) {
+            budget -= active.get((cursor + visited) % count).fill(Math.min(share, budget));
+        }
+        cursor = (cursor + visited) % count;
+
+        active.removeIf(running -> {
+            if (!running.isDone()) return false;
+            pending.remove(running.owner);
+            running.complete();
+            return true;
+        });
+        if (active.isEmpty()) cursor = 0;
+    }
+
+    private void checkPrivateMines() {
+        MineManager mineManager = MythicPrison.getInstance().getMineManager();
+        if (mineManager == null) return;
+
+        long now = System.currentTimeMillis();
+        for (PrivateMine mine : mineManager.getAllMines()) {
+            Instance instance = mine.getMineInstance();
+            if (instance == null || isRegenerating(mine)) continue;
+
+            if (!mine.isFilled()) {
+                // First fill waits for someone to actually visit
+                if (!instance.getPlayers().isEmpty()) {
+                    mine.regenerate();
+                }
+            } else if (RESET_INTERVAL_MS > 0 && mine.getBlocksBroken() > 0 && now - mine.getLastRegenTime() >= RESET_INTERVAL_MS) {
+                mine.regenerate();
+            }
+        }
+    }
+
+    private static final class RegenJob {
+        private final Object owner;
+        private final Instance instance;
+        private final MineRegion region;
+        private final BlockSampler sampler;
+        private final Pos safePoint;
+        private final Runnable onComplete;
+
+        // Section cells covering the region, filled bottom-up
+        private final int minChunkX, minSectionY, minChunkZ;
+        private final int cellsX, cellsZ, cellCount;
+        private int nextCell;
+
+        // Sampled states for the section being filled, and the job's random stream
+        private final int[] sampled = new int[SECTION_VOLUME];
+        private long seed = ThreadLocalRandom.current().nextLong();
+
+        RegenJob(Object owner, Instance instance, MineRegion region, BlockSampler sampler,
+                 Pos safePoint, Runnable onComplete) {
+            this.owner = owner;
+            this.instance = instance;
+            this.region = region;
+            this.sampler = sampler;
+            this.safePoint = safePoint;
+            this.onComplete = onComplete;
+
+            this.minChunkX = region.getMinX() >> 4;
+            this.minSectionY = region.getMinY() >> 4;
+            this.minChunkZ = region.getMinZ() >> 4;
+            this.cellsX = (region.getMaxX() >> 4) - minChunkX + 1;
+            this.cellsZ = (region.getMaxZ() >> 4) - minChunkZ + 1;
+            this.cellCount = cellsX * cellsZ * ((region.getMaxY() >> 4) - minSectionY + 1);
+        }
+
+        void start() {
+            if (safePoint == null) return;
+            for (Player player : instance.getPlayers()) {
+                if (region.contains(player.getPosition())) {
+                    player.teleport(safePoint);
+                }
+            }
+        }
+
+        /**
+         * Fills whole sections until at least {@code limit} blocks were written or a chunk still
+         * has to load.
+         *
+         * @return the number of blocks written
+         */
+        int fill(int limit) {
+            if (!instance.isRegistered()) {
+                // The mine world was removed; drop the rest of the job
+                nextCell = cellCount;
+                return 0;
+            }
+
+            int written = 0;
+            while (written < limit && nextCell < cellCount) {
+                int cell = nextCell;
+                int chunkX = minChunkX + cell % cellsX;
+                int chunkZ = minChunkZ + (cell / cellsX) % cellsZ;
+                int sectionY = minSectionY + cell / (cellsX * cellsZ);
+
+                int filled = fillSection(chunkX, sectionY, chunkZ);
+                if (filled < 0) break; // chunk is loading, retry next tick
+                written += filled;
+                nextCell++;
+            }
+            return written;
+        }
+
+        private int fillSection(int chunkX, int sectionY, int chunkZ) {
+            Chunk chunk = instance.getChunk(chunkX, chunkZ);
+            if (chunk == null) {
+                instance.loadChunk(chunkX, chunkZ);
+                return -1;
+            }
+            if (sectionY < chunk.getMinSection() || sectionY >= chunk.getMaxSection()) return 0;
+
+            int x0 = Math.max(region.getMinX(), chunkX << 4), x1 = Math.min(region.getMaxX(), (chunkX << 4) + 15);
+            int y0 = Math.max(region.getMinY(), sectionY << 4), y1 = Math.min(region.getMaxY(), (sectionY << 4) + 15);
+            int z0 = Math.max(region.getMinZ(), chunkZ << 4), z1 = Math.min(region.getMaxZ(), (chunkZ << 4) + 15);
+            int volume = (x1 - x0 + 1) * (y1 - y0 + 1) * (z1 - z0 + 1);
+
+            // Every block of the section is drawn in one pass, in y, z, x order
+            seed = sampler.fill(sampled, volume, seed);
+            boolean wholeSection = volume == SECTION_VOLUME;
+
+            synchronized (chunk) {
+                Section section = chunk instanceof TemplateChunk templateChunk
+                        ? templateChunk.getWritableSection(sectionY)
+                        : chunk.getSection(sectionY);
+                Palette palette = section.blockPalette();
+
+                if (wholeSection) {
+                    palette.setAll((x, y, z) -> sampled[y << 8 | z << 4 | x]);
+                } else {
+                    int index = 0;
+                    for (int y = y0; y <= y1; y++) {
+                        for (int z = z0; z <= z1; z++) {
+                            for (int x = x0; x <= x1; x++) {
+                                palette.set(x & 15, y & 15, z & 15, sampled[index++]);
+                            }
+                        }
+                    }
+                }
+            }
+            chunk.invalidate();
+
+            if (!chunk.getViewers().isEmpty()) {
+                long[] changes = new long[volume];
+                int index = 0;
+                for (int y = y0; y <= y1; y++) {
+                    for (int z = z0; z <= z1; z++) {
+                        for (int x = x0; x <= x1; x++) {
+                            changes[index] = (long) sampled[index] << 12 | (x & 15) << 8 | (z & 15) << 4 | (y & 15);
+                            index++;
+                        }
+                    }
+                }
+                long sectionPosition = ((long) chunkX & 0x3FFFFF) << 42 | ((long) chunkZ & 0x3FFFFF) << 20 | (sectionY & 0xFFFFF);
+                chunk.sendPacketToViewers(new MultiBlockChangePacket(sectionPosition, changes));
+            }
+            return volume;
+        }
+
+        boolean isDone() {
+            return nextCell >= cellCount;
+        }
+
+        void complete() {
+            if (onComplete == null) return;
+            try {
+                onComplete.run();
+            } catch (Exception e) {
+                System.err.println("[MineRegenerationManager] Error completing regeneration: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package mythic.prison.managers;
+
+import mythic.prison.MythicPrison;
+import mythic.prison.data.backpack.Backpack;
+import mythic.prison.data.milestones.Milestone.MilestoneType;
+import mythic.prison.data.mine.PrivateMine;
+import mythic.prison.data.mining.MiningSession;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.timer.TaskSchedule;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects block breaks per player and settles them once per window: one backpack pass,
+ * one pickaxe XP update, one stats update, one balance update per currency and one milestone threshold check.
+ */
+public class MiningSessionManager {
+
+    // Settlement window in ticks; 1 settles every tick
+    private static final int SETTLE_INTERVAL_TICKS = Integer.getInteger("mythic.mining.settleIntervalTicks", 1);
+
+    private final Map<Player, MiningSession> sessions = new ConcurrentHashMap<>();
+    // Only touched by the settle task (and quit handling), reused across settlements
+    private final MiningSession.Snapshot snapshot = new MiningSession.Snapshot();
+
+    public MiningSessionManager() {
+        MinecraftServer.getSchedulerManager()
+                .buildTask(MythicPrison.getInstance().getPerformanceMonitor().timedTask("task.miningSettle", this::settleAll))
+                .repeat(TaskSchedule.tick(Math.max(1, SETTLE_INTERVAL_TICKS)))
+                .schedule();
+
+        System.out.println("[MiningSessionManager] Manager initialized (settle every " + Math.max(1, SETTLE_INTERVAL_TICKS) + " ticks)");
+    }
+
+    public void recordBreak(Player player, int materialOrdinal, long xp, double baseReward, boolean inOwnMine) {
+        sessions.computeIfAbsent(player, p -> new MiningSession(p.getUuid().toString()))
+                .recordBreak(materialOrdinal, xp, baseReward, inOwnMine);
+    }
+
+    // Enchant payouts join the window and are credited with the block reward
+    public void addCurrency(Player player, String currency, double amount) {
+        sessions.computeIfAbsent(player, p -> new MiningSession(p.getUuid().toString()))
+                .addCurrency(currency, amount);
+    }
+
+    // Settles whatever is pending and forgets the player; call on quit
+    public void removePlayer(Player player) {
+        MiningSession session = sessions.remove(player);
+        if (session != null && session.hasPending()) {
+            settle(player, session);
+        }
+    }
+
+    private void settleAll() {
+        for (Map.Entry<Player, MiningSession> entry : sessions.entrySet()) {
+            MiningSession session = entry.getValue();
+            if (session.hasPending()) {
+                settle(entry.getKey(), session);
+            }
+        }
+    }
+
+    private synchronized void settle(Player player, MiningSession session) {
+        try {
+            session.drainTo(snapshot);
+
+            MythicPrison plugin = MythicPrison.getInstance();
+            double money = snapshot.getBlocks() > 0 ? settleBlocks(plugin, player) : 0;
+
+            // Each currency is credited once; addBalance also saves the profile and refreshes the scoreboard
+            for (Map.Entry<String, Double> entry : snapshot.getCurrencies().entrySet()) {
+                if ("money".equals(entry.getKey())) {
+                    money += entry.getValue();
+                } else {
+                    credit(plugin, player, entry.getKey(), entry.getValue());
+                }
+            }
+            if (money > 0) {
+                credit(plugin, player, "money", money);
+            }
+
+            // Currency milestones are checked by addBalance; each check is one comparison unless a threshold is crossed
+            if (snapshot.getBlocks() > 0) {
+                plugin.getMilestoneManager().checkProgress(player, MilestoneType.BLOCKS_MINED, plugin.getStatsManager().getBlocksMined(player));
+            }
+        } catch (Exception e) {
+            System.err.println("[MiningSessionManager] Error settling mining session for " + player.getUsername() + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    // Backpack, XP and stats for the window's blocks; returns the multiplied block reward
+    private double settleBlocks(MythicPrison plugin, Player player) {
+        settleBackpack(plugin.getBackpackManager(), player);
+
+        plugin.getPickaxeManager().addPickaxeExp(player, snapshot.getExperience());
+        plugin.getStatsManager().addBlocksMined(player, snapshot.getBlocks());
+
+        // Multipliers are resolved once for the whole window
+        double multiplier = plugin.getMultiplierManager().getTotalMultiplier(player, "money");
+        double reward = snapshot.getBaseReward() * multiplier;
+
+        if (snapshot.getOwnMineBaseReward() > 0) {
+            double mineMultiplier = multiplier;
+            PrivateMine playerMine = plugin.getMineManager().getPlayerMine(player);
+            if (playerMine != null) {
+                mineMultiplier *= playerMine.getMultiplier();
+                // Apply beacon bonus
+                mineMultiplier += (playerMine.getBeaconLevel() * 0.1);
+            }
+            reward += snapshot.getOwnMineBaseReward() * mineMultiplier;
+        }
+        return reward;
+    }
+
+    private void credit(MythicPrison plugin, Player player, String currency, double amount) {
+        plugin.getCurrencyManager().addBalance(player, currency, amount);
+        plugin.getHudManager().addCurrency(player, currency, amount);
+    }
+
+    private void settleBackpack(BackpackManager backpackManager, Player player) {
+        backpackManager.initializePlayer(player);
+        Backpack backpack = backpackManager.getBackpack(player);
+        if (backpack == null) return;
+
+        int[] blockCounts = snapshot.getBlockCounts();
+        for (int ordinal = 0; ordinal < blockCounts.length; ordinal++) {
+            int remaining = blockCounts[ordinal];
+            while (remaining > 0) {
+                if (backpack.getAvailableSpace() <= 0) {
+                    // Backpack is full, sell it and keep filling
+                    backpackManager.sellBackpack(player, true);
+                    if (backpack.getAvailableSpace() <= 0) break;
+                }
+                int amount = Math.min(remaining, backpack.getAvailableSpace());
+                backpack.addBlock(ordinal, amount);
+                remaining -= amount;
+            }
+        }
+
+        // Auto-sell if backpack is full or auto-sell is enabled
+        if (backpack.isFull() || backpack.isAutoSellEnabled()) {
+            backpackManager.sellBackpack(player, false);
+        }
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+}
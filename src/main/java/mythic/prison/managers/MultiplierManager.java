@@ -6,8 +6,10 @@ import net.minestom.server.entity.Player;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import mythic.prison.player.Profile;
 
 public class MultiplierManager {
@@ -15,6 +17,13 @@ public class MultiplierManager {
     private final Map<String, Map<String, Double>> playerMultipliers = new ConcurrentHashMap<>();
     private final Map<String, Map<String, Long>> multiplierExpiry = new ConcurrentHashMap<>();
 
+    // Types whose totals are precomputed into each player's snapshot
+    private static final String[] SNAPSHOT_TYPES = {"money", "tokens", "souls", "beacons", "experience", "gems"};
+
+    private final Map<UUID, MultiplierSnapshot> snapshots = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so a snapshot built concurrently with a change is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
     public double getMultiplier(Player player, String type) {
         String uuid = player.getUuid().toString();
         
@@ -39,6 +48,7 @@ public class MultiplierManager {
                     // Multiplier expired, remove it
                     multipliers.remove(type);
                     expiry.remove(type);
+                    invalidate(player);
                     return 1.0;
                 }
             }
@@ -72,6 +82,8 @@ public class MultiplierManager {
                 }
             }
         
+            invalidate(player);
+
             // Save to database asynchronously
             saveMultipliersToDatabase(player);
         
@@ -113,6 +125,8 @@ public class MultiplierManager {
                 expiry.remove(type);
             }
         
+            invalidate(player);
+
             // Save to database asynchronously
             saveMultipliersToDatabase(player);
         
@@ -122,7 +136,86 @@ public class MultiplierManager {
         }
     }
 
+    /**
+     * Reads the player's precomputed snapshot; the snapshot is rebuilt only after an
+     * invalidation or once its earliest timed multiplier expires.
+     */
     public double getTotalMultiplier(Player player, String type) {
+        int index = snapshotIndex(type);
+        if (index < 0) {
+            return computeTotalMultiplier(player, type);
+        }
+
+        MultiplierSnapshot snapshot = snapshots.get(player.getUuid());
+        if (snapshot == null || System.currentTimeMillis() >= snapshot.validUntil) {
+            snapshot = buildSnapshot(player);
+        }
+        return snapshot.totals[index];
+    }
+
+    // Call whenever something feeding the totals changes (multipliers, prestige, rebirth, perks, profile load).
+    // The counter must be bumped before the removal; see buildSnapshot.
+    public void invalidate(UUID playerId) {
+        invalidations.incrementAndGet();
+        snapshots.remove(playerId);
+    }
+
+    public void invalidate(Player player) {
+        invalidate(player.getUuid());
+    }
+
+    public void removePlayer(Player player) {
+        invalidate(player);
+    }
+
+    private MultiplierSnapshot buildSnapshot(Player player) {
+        long version = invalidations.get();
+
+        double[] totals = new double[SNAPSHOT_TYPES.length];
+        for (int i = 0; i < SNAPSHOT_TYPES.length; i++) {
+            totals[i] = computeTotalMultiplier(player, SNAPSHOT_TYPES[i]);
+        }
+
+        MultiplierSnapshot snapshot = new MultiplierSnapshot(totals, getEarliestExpiry(player));
+        // Don't cache if something changed while we were computing. The check runs under the key's
+        // lock, and invalidate() bumps the counter before removing under that same lock, so a
+        // snapshot that passes here is either current or removed right after.
+        snapshots.compute(player.getUuid(), (id, existing) -> invalidations.get() == version ? snapshot : existing);
+        return snapshot;
+    }
+
+    private long getEarliestExpiry(Player player) {
+        long earliest = Long.MAX_VALUE;
+
+        Map<String, Long> expiry = multiplierExpiry.get(player.getUuid().toString());
+        if (expiry != null) {
+            for (Long time : expiry.values()) {
+                earliest = Math.min(earliest, time);
+            }
+        }
+
+        PlayerProfile profile = MythicPrison.getInstance().getProfileManager().getProfile(player);
+        if (profile != null) {
+            for (Long time : profile.getMultiplierExpiry().values()) {
+                earliest = Math.min(earliest, time);
+            }
+        }
+        return earliest;
+    }
+
+    private static int snapshotIndex(String type) {
+        return switch (type) {
+            case "money" -> 0;
+            case "tokens" -> 1;
+            case "souls" -> 2;
+            case "beacons" -> 3;
+            case "experience" -> 4;
+            case "gems" -> 5;
+            default -> -1;
+        };
+    }
+
+    private double computeTotalMultiplier(Player player, String type) {
         double base = getMultiplier(player, type);
         double prestige = getPrestigeMultiplier(player, type);
         double rebirth = getRebirthMultiplier(player, type);
@@ -204,6 +297,8 @@ public class MultiplierManager {
                         multiplierExpiry.put(playerUUID, new HashMap<>(dbExpiry));
                     }
                 
+                    invalidate(player);
+
                     // Clean expired multipliers
                     cleanExpiredMultipliers(player);
                 }
@@ -279,6 +374,7 @@ public class MultiplierManager {
             
                 // Save changes if any multipliers were removed
                 if (!expiredKeys.isEmpty()) {
+                    invalidate(player);
                     saveMultipliersToDatabase(player);
                 }
             }
@@ -286,4 +382,15 @@ public class MultiplierManager {
             System.err.println("[MultiplierManager] Error cleaning expired multipliers for " + player.getUsername() + ": " + e.getMessage());
         }
     }
+
+    // Effective totals for one player, indexed like SNAPSHOT_TYPES
+    private static final class MultiplierSnapshot {
+        private final double[] totals;
+        private final long validUntil;
+
+        private MultiplierSnapshot(double[] totals, long validUntil) {
+            this.totals = totals;
+            this.validUntil = validUntil;
+        }
+    }
 }
\ No newline at end of file
@@ -1,44 +1,74 @@
 package mythic.prison.managers;
 
 import mythic.prison.MythicPrison;
-import mythic.prison.data.enchants.PickaxeEnchant;
+import mythic.prison.data.mine.PrivateMine;
+import mythic.prison.data.mining.AreaBreaker;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.potion.Potion;
 import net.minestom.server.potion.PotionEffect;
-import java.util.Map;
-import java.util.Random;
-import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class PickaxeEffectsManager {
 
-    private final Random random = new Random();
+    // Each player's active (non-passive) enchants compiled into handlers with precomputed chances
+    private final Map<UUID, Proc[]> compiledProcs = new ConcurrentHashMap<>();
+    private static final Proc[] NO_PROCS = new Proc[0];
 
     public void applyMiningEffects(Player player, Block minedBlock, Point blockPos) {
-        PickaxeManager pickaxeManager = MythicPrison.getInstance().getPickaxeManager();
-        
-        if (pickaxeManager == null) return;
+        Proc[] procs = compiledProcs.get(player.getUuid());
+        if (procs == null) {
+            procs = compileProcs(player);
+        }
+        if (procs.length == 0) return;
 
         Instance instance = player.getInstance();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
 
-        // Check token enchants (excluding passive ones since they're handled separately)
-        Map<String, PickaxeEnchant> tokenEnchants = pickaxeManager.getTokenEnchants();
-        for (String enchantId : tokenEnchants.keySet()) {
-            int level = pickaxeManager.getTokenEnchantLevel(player, enchantId);
-            if (level > 0 && !isPassiveEnchant(enchantId)) {
-                applyEnchantEffect(player, enchantId, level, minedBlock, blockPos, instance);
+        for (Proc proc : procs) {
+            if (random.nextDouble() <= proc.chance) {
+                proc.handler.apply(player, proc.level, minedBlock, blockPos, instance);
+                hud().recordProc(player);
             }
         }
+    }
 
-        // Check soul enchants (excluding passive ones since they're handled separately)
-        Map<String, PickaxeEnchant> soulEnchants = pickaxeManager.getSoulEnchants();
-        for (String enchantId : soulEnchants.keySet()) {
-            int level = pickaxeManager.getSoulEnchantLevel(player, enchantId);
-            if (level > 0 && !isPassiveEnchant(enchantId)) {
-                applyEnchantEffect(player, enchantId, level, minedBlock, blockPos, instance);
+    // Call whenever a player's enchant levels change
+    public void invalidateEnchants(Player player) {
+        compiledProcs.remove(player.getUuid());
+    }
+
+    private Proc[] compileProcs(Player player) {
+        PickaxeManager pickaxeManager = MythicPrison.getInstance().getPickaxeManager();
+        if (pickaxeManager == null) return NO_PROCS;
+
+        List<Proc> procs = new ArrayList<>();
+        addProcs(procs, pickaxeManager.getPlayerTokenEnchants(player));
+        addProcs(procs, pickaxeManager.getPlayerSoulEnchants(player));
+
+        Proc[] compiled = procs.isEmpty() ? NO_PROCS : procs.toArray(new Proc[0]);
+        compiledProcs.put(player.getUuid(), compiled);
+        return compiled;
+    }
+
+    private void addProcs(List<Proc> procs, Map<String, Integer> enchants) {
+        for (Map.Entry<String, Integer> entry : new HashMap<>(enchants).entrySet()) {
+            String enchantId = entry.getKey().toLowerCase();
+            int level = entry.getValue();
+            // Passive enchants are handled by applyPassiveEffects
+            if (level <= 0 || isPassiveEnchant(enchantId)) continue;
+
+            ProcHandler handler = getProcHandler(enchantId);
+            if (handler != null) {
+                procs.add(new Proc(handler, level, getEnchantChance(enchantId, level) / 100.0));
             }
         }
     }
@@ -97,196 +127,88 @@ public class PickaxeEffectsManager {
         };
     }
 
-    private void applyEnchantEffect(Player player, String enchantId, int level, Block minedBlock, Point blockPos, Instance instance) {
-        switch (enchantId.toLowerCase()) {
-            case "efficiency":
-            case "speed":
-            case "haste":
-                // These are now handled by passive effects system
-                break;
-
-            case "fortune":
-                applyFortuneEffect(player, level, minedBlock);
-                break;
-
-            case "explosive":
-            case "explosion":
-            case "mega_explosive":
-                applyExplosionEffect(player, level, blockPos, instance, minedBlock);
-                break;
-
-            case "telepathy":
-            case "magnet":
-                applyTelepathyEffect(player, level, minedBlock);
-                break;
-
-            case "auto_smelt":
-            case "smelting":
-                applySmeltingEffect(player, level, minedBlock);
-                break;
-
-            case "experience":
-                applyExperienceEffect(player, level);
-                break;
-
-            case "tokenator":
-            case "auto_sell":
-                applyTokenatorEffect(player, level, minedBlock);
-                break;
-
-            case "soul_extraction":
-            case "soulextraction":
-            case "super_fortune":
-                applySoulExtractionEffect(player, level, minedBlock);
-                break;
-
-            case "void_walker":
-            case "time_warp":
-                applyVoidWalkerEffect(player, level, minedBlock);
-                break;
-        }
+    private ProcHandler getProcHandler(String enchantId) {
+        return switch (enchantId) {
+            case "fortune" -> (player, level, block, pos, instance) -> applyFortuneEffect(player, level, block);
+            case "explosive", "explosion", "mega_explosive" -> (player, level, block, pos, instance) -> applyExplosionEffect(player, level, pos, instance, block);
+            case "telepathy", "magnet" -> (player, level, block, pos, instance) -> applyTelepathyEffect(player, level, block);
+            case "auto_smelt", "smelting" -> (player, level, block, pos, instance) -> applySmeltingEffect(player, level, block);
+            case "experience" -> (player, level, block, pos, instance) -> applyExperienceEffect(player, level);
+            case "tokenator", "auto_sell" -> (player, level, block, pos, instance) -> applyTokenatorEffect(player, level, block);
+            case "soul_extraction", "soulextraction", "super_fortune" -> (player, level, block, pos, instance) -> applySoulExtractionEffect(player, level, block);
+            case "void_walker", "time_warp" -> (player, level, block, pos, instance) -> applyVoidWalkerEffect(player, level, block);
+            default -> null;
+        };
     }
 
     private void applyFortuneEffect(Player player, int level, Block minedBlock) {
-        // Improved fortune chance - higher base chance and better scaling
-        double fortuneChance = Math.min(0.25 + (level * 0.15), 0.95); // 25% base + 15% per level, max 95%
-
-        if (random.nextDouble() <= fortuneChance) {
-            CurrencyManager currencyManager = MythicPrison.getInstance().getCurrencyManager();
-            double baseMoney = getBlockValue(minedBlock);
-            double bonusMoney = baseMoney * (1.0 + level * 0.5); // +50% per level
+        double baseMoney = getBlockValue(minedBlock);
+        double bonusMoney = baseMoney * (1.0 + level * 0.5); // +50% per level
 
-            if (bonusMoney > 0) {
-                currencyManager.addBalance(player, "money", bonusMoney);
-                player.sendMessage("§e⭐ Fortune activated! +$" + String.format("%.2f", bonusMoney));
-            }
+        if (bonusMoney > 0) {
+            sessions().addCurrency(player, "money", bonusMoney);
         }
     }
 
     private void applyExplosionEffect(Player player, int level, Point centerPos, Instance instance, Block minedBlock) {
-        // Improved explosion chance
-        double explosionChance = Math.min(0.10 + (level * 0.05), 0.35); // 10% base + 5% per level, max 35%
-
-        if (random.nextDouble() <= explosionChance) {
-            int radius = Math.min(level, 3);
-            List<Point> blocksToBreak = new ArrayList<>();
-
-            for (int x = -radius; x <= radius; x++) {
-                for (int y = -radius; y <= radius; y++) {
-                    for (int z = -radius; z <= radius; z++) {
-                        if (x == 0 && y == 0 && z == 0) continue;
-
-                        Point blockPos = centerPos.add(x, y, z);
-                        Block block = instance.getBlock(blockPos);
-
-                        if (isMineable(block)) {
-                            blocksToBreak.add(blockPos);
-                        }
-                    }
-                }
-            }
-
-            CurrencyManager currencyManager = MythicPrison.getInstance().getCurrencyManager();
-            
-            for (Point pos : blocksToBreak) {
-                Block block = instance.getBlock(pos);
-                instance.setBlock(pos, Block.AIR);
-
-                double money = getBlockValue(block);
-                if (money > 0) {
-                    currencyManager.addBalance(player, "money", money);
-                }
-            }
+        int radius = Math.min(level, 3);
+
+        // One read pass and one block batch for the whole area; the payout joins the mining session
+        PrivateMine mine = MythicPrison.getInstance().getMineManager().getMineByInstance(instance);
+        AreaBreaker.Result result = AreaBreaker.breakCube(instance, centerPos, radius,
+                MythicPrison.getInstance().getBlockValueTable(), mine != null ? mine.getRegion() : null);
+        if (mine != null) {
+            mine.addBlocksBroken(result.getRegionBlocksBroken());
+        }
 
-            if (!blocksToBreak.isEmpty()) {
-                player.sendMessage("§c💥 Explosion activated! Broke " + blocksToBreak.size() + " blocks!");
-            }
+        if (result.getMoney() > 0) {
+            sessions().addCurrency(player, "money", result.getMoney());
         }
     }
 
     private void applyTelepathyEffect(Player player, int level, Block minedBlock) {
-        // Improved telepathy chance
-        double telepathyChance = Math.min(0.30 + (level * 0.15), 0.85); // 30% base + 15% per level, max 85%
-
-        if (random.nextDouble() <= telepathyChance) {
-            CurrencyManager currencyManager = MythicPrison.getInstance().getCurrencyManager();
-            double baseMoney = getBlockValue(minedBlock);
-            double bonusMoney = baseMoney * (level * 0.15);
+        double baseMoney = getBlockValue(minedBlock);
+        double bonusMoney = baseMoney * (level * 0.15);
 
-            if (bonusMoney > 0) {
-                currencyManager.addBalance(player, "money", bonusMoney);
-                player.sendMessage("§b✨ Telepathy activated! +$" + String.format("%.2f", bonusMoney));
-            }
+        if (bonusMoney > 0) {
+            sessions().addCurrency(player, "money", bonusMoney);
         }
     }
 
     private void applySmeltingEffect(Player player, int level, Block minedBlock) {
-        // Improved smelting chance
-        double smeltingChance = Math.min(0.40 + (level * 0.20), 0.95); // 40% base + 20% per level, max 95%
+        double baseMoney = getBlockValue(minedBlock);
+        double bonusMoney = baseMoney * (1.0 + level * 0.3);
 
-        if (random.nextDouble() <= smeltingChance) {
-            CurrencyManager currencyManager = MythicPrison.getInstance().getCurrencyManager();
-            double baseMoney = getBlockValue(minedBlock);
-            double bonusMoney = baseMoney * (1.0 + level * 0.3);
-
-            if (bonusMoney > 0) {
-                currencyManager.addBalance(player, "money", bonusMoney);
-                player.sendMessage("§6🔥 Auto Smelt activated! +$" + String.format("%.2f", bonusMoney));
-            }
+        if (bonusMoney > 0) {
+            sessions().addCurrency(player, "money", bonusMoney);
         }
     }
 
     private void applyExperienceEffect(Player player, int level) {
-        // Improved experience chance
-        double expChance = Math.min(0.35 + (level * 0.15), 0.85); // 35% base + 15% per level, max 85%
-
-        if (random.nextDouble() <= expChance) {
-            PickaxeManager pickaxeManager = MythicPrison.getInstance().getPickaxeManager();
-            if (pickaxeManager != null) {
-                long bonusXP = level * 5;
-                pickaxeManager.addPickaxeExp(player, bonusXP);
-                player.sendMessage("§e⭐ Experience activated! +" + bonusXP + " XP!");
-            }
+        PickaxeManager pickaxeManager = MythicPrison.getInstance().getPickaxeManager();
+        if (pickaxeManager != null) {
+            long bonusXP = level * 5;
+            pickaxeManager.addPickaxeExp(player, bonusXP);
+            hud().addExperience(player, bonusXP);
         }
     }
 
     private void applyTokenatorEffect(Player player, int level, Block minedBlock) {
-        // Improved tokenator chance
-        double tokenChance = Math.min(0.15 + (level * 0.08), 0.55); // 15% base + 8% per level, max 55%
-
-        if (random.nextDouble() <= tokenChance) {
-            double tokens = level * 1.0;
-            CurrencyManager currencyManager = MythicPrison.getInstance().getCurrencyManager();
-            currencyManager.addBalance(player, "tokens", tokens);
-            player.sendMessage("§6✨ Tokenator activated! +" + tokens + " tokens!");
-        }
+        double tokens = level * 1.0;
+        sessions().addCurrency(player, "tokens", tokens);
     }
 
     private void applySoulExtractionEffect(Player player, int level, Block minedBlock) {
-        // Improved soul extraction chance
-        double soulChance = Math.min(0.08 + (level * 0.05), 0.35); // 8% base + 5% per level, max 35%
-
-        if (random.nextDouble() <= soulChance) {
-            double souls = level * 0.5;
-            CurrencyManager currencyManager = MythicPrison.getInstance().getCurrencyManager();
-            currencyManager.addBalance(player, "souls", souls);
-            player.sendMessage("§5👻 Soul Extraction activated! +" + souls + " souls!");
-        }
+        double souls = level * 0.5;
+        sessions().addCurrency(player, "souls", souls);
     }
 
     private void applyVoidWalkerEffect(Player player, int level, Block minedBlock) {
-        // Improved void walker chance
-        double voidChance = Math.min(0.05 + (level * 0.03), 0.20); // 5% base + 3% per level, max 20%
-
-        if (random.nextDouble() <= voidChance) {
-            CurrencyManager currencyManager = MythicPrison.getInstance().getCurrencyManager();
-            double tokens = level * 2.0;
-            double souls = level * 1.0;
-            
-            currencyManager.addBalance(player, "tokens", tokens);
-            currencyManager.addBalance(player, "souls", souls);
-            player.sendMessage("§5✨ Void Walker activated! +" + tokens + " tokens, +" + souls + " souls!");
-        }
+        double tokens = level * 2.0;
+        double souls = level * 1.0;
+        
+        sessions().addCurrency(player, "tokens", tokens);
+        sessions().addCurrency(player, "souls", souls);
     }
 
     // Utility methods for getting enchant chances (for GUI display)
@@ -305,29 +227,38 @@ public class PickaxeEffectsManager {
         };
     }
 
-    private boolean isMineable(Block block) {
-        return block != Block.AIR &&
-                block != Block.BEDROCK &&
-                block != Block.BARRIER &&
-                !block.name().contains("LIQUID") &&
-                !block.name().contains("WATER") &&
-                !block.name().contains("LAVA");
+    // Proc results are summarised on the action bar instead of one chat message each
+    // Proc payouts are credited by the next mining settlement, once per currency
+    private MiningSessionManager sessions() {
+        return MythicPrison.getInstance().getMiningSessionManager();
+    }
+
+    private HudManager hud() {
+        return MythicPrison.getInstance().getHudManager();
     }
 
     private double getBlockValue(Block block) {
-        return switch (block.name()) {
-            case "STONE", "COBBLESTONE" -> 1.0;
-            case "COAL_ORE", "DEEPSLATE_COAL_ORE" -> 2.0;
-            case "IRON_ORE", "DEEPSLATE_IRON_ORE" -> 5.0;
-            case "GOLD_ORE", "DEEPSLATE_GOLD_ORE" -> 10.0;
-            case "DIAMOND_ORE", "DEEPSLATE_DIAMOND_ORE" -> 25.0;
-            case "EMERALD_ORE", "DEEPSLATE_EMERALD_ORE" -> 50.0;
-            case "NETHERITE_ORE" -> 100.0;
-            default -> 0.5;
-        };
+        return MythicPrison.getInstance().getBlockValueTable().getMoney(block);
     }
 
     public double getEfficiencySpeedMultiplier(int level) {
         return 1.0 + (level * 0.3);
     }
-}
\ No newline at end of file
+
+    @FunctionalInterface
+    private interface ProcHandler {
+        void apply(Player player, int level, Block block, Point pos, Instance instance);
+    }
+
+    private static final class Proc {
+        private final ProcHandler handler;
+        private final int level;
+        private final double chance;
+
+        private Proc(ProcHandler handler, int level, double chance) {
+            this.handler = handler;
+            this.level = level;
+            this.chance = chance;
+        }
+    }
+}
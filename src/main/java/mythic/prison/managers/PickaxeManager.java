@@ -1,21 +1,26 @@
 package mythic.prison.managers;
 
+import mythic.prison.MythicPrison;
 import mythic.prison.data.enchants.PickaxeEnchant;
 import mythic.prison.data.enchants.TokenEnchant;
 import mythic.prison.data.enchants.SoulEnchant;
 import net.kyori.adventure.text.Component;
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.inventory.InventoryPreClickEvent;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.minestom.server.event.player.PlayerSwapItemEvent;
 import net.minestom.server.tag.Tag;
+import net.minestom.server.timer.TaskSchedule;
 import java.util.concurrent.CompletableFuture;
 import mythic.prison.player.Profile;
 import mythic.prison.gui.PickaxeEnchantGUI;
+import mythic.prison.utils.NumberFormatter;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class PickaxeManager {
@@ -25,6 +30,10 @@ public class PickaxeManager {
     private static final Tag<Long> PICKAXE_EXP_TAG = Tag.Long("pickaxe_exp");
     private static final Tag<Boolean> SOULBOUND_TAG = Tag.Boolean("soulbound");
 
+    // Pickaxes whose lore changed (XP, blocks) are re-rendered at most once per interval
+    private static final int RENDER_INTERVAL_TICKS = Integer.getInteger("mythic.pickaxe.renderIntervalTicks", 10);
+    private final Set<Player> dirtyPickaxes = ConcurrentHashMap.newKeySet();
+
     // Player data storage
     private final Map<String, Integer> playerPickaxeLevels = new ConcurrentHashMap<>();
     private final Map<String, Long> playerPickaxeExp = new ConcurrentHashMap<>();
@@ -40,6 +49,12 @@ public class PickaxeManager {
         // Initialize with default values
         initializeTokenEnchants();
         initializeSoulEnchants();
+
+        MinecraftServer.getSchedulerManager()
+                .buildTask(MythicPrison.getInstance().getPerformanceMonitor().timedTask("task.pickaxeRender", this::renderDirtyPickaxes))
+                .repeat(TaskSchedule.tick(Math.max(1, RENDER_INTERVAL_TICKS)))
+                .schedule();
+
         System.out.println("[PickaxeManager] Manager initialized");
     }
 
@@ -78,10 +93,19 @@ public class PickaxeManager {
         playerBlocksMined.putIfAbsent(playerUUID, 0L); // Add this line
         playerTokenEnchants.putIfAbsent(playerUUID, new HashMap<>());
         playerSoulEnchants.putIfAbsent(playerUUID, new HashMap<>());
+        invalidateEnchantProcs(player);
 
         // Removed the console message: System.out.println("[PickaxeManager] Initialized player: " + player.getUsername());
     }
 
+    // Enchant procs are compiled per player, recompile them after any level change
+    private void invalidateEnchantProcs(Player player) {
+        PickaxeEffectsManager effectsManager = MythicPrison.getInstance().getPickaxeEffectsManager();
+        if (effectsManager != null) {
+            effectsManager.invalidateEnchants(player);
+        }
+    }
+
     public void initializePlayerExpBar(Player player) {
         try {
             // Initialize player data first
@@ -121,19 +145,11 @@ public class PickaxeManager {
             // Ensure pickaxe data exists
             initializePlayer(player);
 
-            // Create the soulbound pickaxe with player's name
-            ItemStack pickaxe = ItemStack.builder(Material.DIAMOND_PICKAXE)
-                    .customName(Component.text("§8[§d§l" + player.getUsername() + "'s §f§lPickaxe§8]"))
-                    .lore(buildPickaxeLore(player))
-                    .build();
-
-            // Add tags to identify this as a soulbound pickaxe
-            pickaxe = pickaxe.withTag(PICKAXE_LEVEL_TAG, getPickaxeLevel(player))
-                    .withTag(PICKAXE_EXP_TAG, getPickaxeExp(player))
-                    .withTag(SOULBOUND_TAG, true);
+            // A full render supersedes any pending coalesced one
+            dirtyPickaxes.remove(player);
 
             // Always place in slot 0 (first slot)
-            player.getInventory().setItemStack(0, pickaxe);
+            player.getInventory().setItemStack(0, buildSoulboundPickaxe(player));
 
             // Removed the console message: System.out.println("[PickaxeManager] Gave soulbound pickaxe to: " + player.getUsername());
 
@@ -143,7 +159,51 @@ public class PickaxeManager {
         }
     }
 
-    private java.util.List<Component> buildPickaxeLore(Player player) {
+    private ItemStack buildSoulboundPickaxe(Player player) {
+        // Create the soulbound pickaxe with player's name
+        ItemStack pickaxe = ItemStack.builder(Material.DIAMOND_PICKAXE)
+                .customName(Component.text("§8[§d§l" + player.getUsername() + "'s §f§lPickaxe§8]"))
+                .lore(buildPickaxeLore(player))
+                .build();
+
+        // Add tags to identify this as a soulbound pickaxe
+        return pickaxe.withTag(PICKAXE_LEVEL_TAG, getPickaxeLevel(player))
+                .withTag(PICKAXE_EXP_TAG, getPickaxeExp(player))
+                .withTag(SOULBOUND_TAG, true);
+    }
+
+    // Queue a lore refresh instead of rebuilding the item right away (used on the mining hot path)
+    public void markPickaxeDirty(Player player) {
+        dirtyPickaxes.add(player);
+    }
+
+    // Runs on the tick thread every RENDER_INTERVAL_TICKS
+    private void renderDirtyPickaxes() {
+        if (dirtyPickaxes.isEmpty()) return;
+
+        for (Player player : dirtyPickaxes) {
+            dirtyPickaxes.remove(player);
+            if (!player.isOnline()) continue;
+
+            try {
+                updatePlayerExpBar(player);
+
+                // Only resend slot 0 if it still holds the pickaxe and the render actually differs
+                ItemStack current = player.getInventory().getItemStack(0);
+                if (!isSoulboundPickaxe(current)) continue;
+
+                ItemStack rendered = buildSoulboundPickaxe(player);
+                if (!rendered.equals(current)) {
+                    player.getInventory().setItemStack(0, rendered);
+                }
+            } catch (Exception e) {
+                System.err.println("[PickaxeManager] Error rendering pickaxe for " + player.getUsername() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // Public so the benchmarks can measure lore rendering without an inventory
+    public java.util.List<Component> buildPickaxeLore(Player player) {
         java.util.List<Component> lore = new java.util.ArrayList<>();
 
         // Right under the name - Right click instruction
@@ -160,7 +220,7 @@ public class PickaxeManager {
 
         // Blocks mined (you'll need to add this tracking)
         long blocksMined = getPlayerBlocksMined(player); // You'll need to implement this
-        lore.add(Component.text("§fBlocks: §d" + formatNumber(blocksMined)));
+        lore.add(Component.text("§fBlocks: §d" + NumberFormatter.format(blocksMined)));
 
         lore.add(Component.text(""));
 
@@ -292,19 +352,6 @@ public class PickaxeManager {
         //return 0L; // Placeholder - replace with actual implementation
     }
 
-    // Add this method to format large numbers
-    private String formatNumber(long number) {
-        if (number >= 1_000_000_000) {
-            return String.format("%.1fB", number / 1_000_000_000.0);
-        } else if (number >= 1_000_000) {
-            return String.format("%.1fM", number / 1_000_000.0);
-        } else if (number >= 1_000) {
-            return String.format("%.1fK", number / 1_000.0);
-        } else {
-            return String.valueOf(number);
-        }
-    }
-
     private String createExpProgressBar(Player player) {
         long currentExp = getPickaxeExp(player);
         long expRequired = getExpRequired(getPickaxeLevel(player));
@@ -477,13 +524,14 @@ public class PickaxeManager {
 
                 player.sendMessage("§6§l✦ PICKAXE LEVEL UP! §e§lLevel " + currentLevel);
                 player.sendMessage("§eYour pickaxe has grown stronger!");
-            }
-
-            // Always update the pickaxe item after gaining experience (not just on level up)
-            updatePickaxe(player);
 
-            // Update the player's experience bar
-            updatePlayerExpBar(player);
+                // Level ups are shown right away
+                updatePickaxe(player);
+                updatePlayerExpBar(player);
+            } else {
+                // Plain XP gains only change the lore progress bar, coalesce them
+                markPickaxeDirty(player);
+            }
 
         } catch (Exception e) {
             System.err.println("[PickaxeManager] Error adding pickaxe exp: " + e.getMessage());
@@ -577,6 +625,7 @@ public class PickaxeManager {
 
         if (newLevel > currentLevel) {
             playerEnchants.put(enchantName.toLowerCase(), newLevel);
+            invalidateEnchantProcs(player);
             updatePickaxe(player);
             return true;
         }
@@ -598,6 +647,7 @@ public class PickaxeManager {
 
         if (newLevel > currentLevel) {
             playerEnchants.put(enchantName.toLowerCase(), newLevel);
+            invalidateEnchantProcs(player);
             updatePickaxe(player);
             return true;
         }
@@ -681,8 +731,8 @@ public class PickaxeManager {
         long currentBlocks = playerBlocksMined.getOrDefault(playerUUID, 0L);
         playerBlocksMined.put(playerUUID, currentBlocks + blocks);
 
-        // Update the pickaxe to reflect new stats
-        updatePickaxe(player);
+        // Update the pickaxe to reflect new stats on the next render
+        markPickaxeDirty(player);
     }
 
     public boolean preventItemSwap(PlayerSwapItemEvent event) {
@@ -783,6 +833,7 @@ public class PickaxeManager {
         // Update the maps with the split enchants
         playerTokenEnchants.put(playerUUID, tokenEnchantsMap);
         playerSoulEnchants.put(playerUUID, soulEnchantsMap);
+        invalidateEnchantProcs(player);
 
         // Update the pickaxe item to reflect the loaded enchants
         updatePickaxe(player);
@@ -1,35 +1,43 @@
 package mythic.prison.managers;
 
-import com.mongodb.client.MongoCollection;
-import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.ReplaceOptions;
 import mythic.prison.MythicPrison;
 import mythic.prison.data.player.PlayerProfile;
+import mythic.prison.data.player.ProfileChanges;
+import mythic.prison.database.DatabaseConfig;
+import mythic.prison.database.store.KeyValueStore;
 import net.minestom.server.entity.Player;
 import org.bson.Document;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class ProfileManager {
     private final Map<String, PlayerProfile> playerProfiles = new ConcurrentHashMap<>();
     private final Map<String, Long> playerJoinTimes = new ConcurrentHashMap<>();
-    private MongoCollection<Document> profileCollection;
+    private final KeyValueStore profileStore;
+
+    // Write-behind: saveProfile() only marks a profile dirty, the writer thread flushes it later
+    private final Set<String> dirtyProfiles = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ProfileManager-Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public ProfileManager() {
-        // Initialize MongoDB collection when manager is created
-        CompletableFuture.runAsync(() -> {
-            try {
-                if (MythicPrison.getInstance().getMongoManager() != null) {
-                    this.profileCollection = MythicPrison.getInstance().getMongoManager()
-                            .getDatabase().getCollection("player_profiles");
-                    System.out.println("[ProfileManager] Connected to MongoDB collection 'player_profiles'");
-                }
-            } catch (Exception e) {
-                System.err.println("[ProfileManager] Failed to initialize MongoDB: " + e.getMessage());
-            }
-        });
+        this.profileStore = MythicPrison.getInstance().getProfileStore().open("player_profiles", "uuid");
+
+        long interval = Math.max(250, DatabaseConfig.PROFILE_FLUSH_INTERVAL_MS);
+        writer.scheduleWithFixedDelay(this::flushDirtyProfiles, interval, interval, TimeUnit.MILLISECONDS);
     }
 
     public void initializePlayer(Player player) {
@@ -47,6 +55,7 @@ public class ProfileManager {
             profile.setUsername(player.getUsername());
             profile.setLastSeen(System.currentTimeMillis());
             playerProfiles.put(uuid, profile);
+            invalidateMultipliers(uuid);
             
             // Ensure default multipliers are set
             ensureDefaultMultipliers(player);
@@ -54,8 +63,8 @@ public class ProfileManager {
             // Sync multipliers with MultiplierManager
             syncMultipliers(player);
             
-            // Save immediately to update last seen and username
-            saveProfileToDatabase(profile);
+            // Queue a write to update last seen and username
+            markDirty(profile);
         });
 
         // Initialize friends system
@@ -75,11 +84,11 @@ public class ProfileManager {
             }
         }
         
-        // Save profile before removing from memory
+        // Flush profile before removing from memory
         PlayerProfile profile = playerProfiles.remove(uuid);
         if (profile != null) {
             profile.setLastSeen(System.currentTimeMillis());
-            saveProfileToDatabase(profile);
+            flushProfile(profile);
             System.out.println("[ProfileManager] Saved and removed profile for " + player.getUsername());
         }
 
@@ -106,11 +115,12 @@ public class ProfileManager {
             if (profile == null) {
                 // Create new profile if doesn't exist
                 profile = new PlayerProfile(uuid);
-                saveProfileToDatabase(profile);
+                markDirty(profile);
             }
             
             // Cache it in playerProfiles
             playerProfiles.put(uuid, profile);
+            invalidateMultipliers(uuid);
             return profile;
             
         } catch (Exception e) {
@@ -127,9 +137,7 @@ public class ProfileManager {
     private CompletableFuture<PlayerProfile> loadProfileFromDatabase(String uuid) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                if (profileCollection == null) return null;
-                
-                Document doc = profileCollection.find(Filters.eq("uuid", uuid)).first();
+                Document doc = profileStore.get(uuid);
                 if (doc != null) {
                     return documentToProfile(doc);
                 }
@@ -140,21 +148,103 @@ public class ProfileManager {
         });
     }
 
+    // Runs on the writer thread only; the store decides whether writes are batched
     private void saveProfileToDatabase(PlayerProfile profile) {
-        if (profileCollection == null) return;
-        
-        CompletableFuture.runAsync(() -> {
-            try {
-                Document doc = profileToDocument(profile);
-                profileCollection.replaceOne(
-                    Filters.eq("uuid", profile.getUuid()),
-                    doc,
-                    new ReplaceOptions().upsert(true)
-                );
-            } catch (Exception e) {
-                System.err.println("[ProfileManager] Error saving profile for " + profile.getUuid() + ": " + e.getMessage());
+        if (!profile.isPersisted()) {
+            replaceProfileDocument(profile);
+            return;
+        }
+
+        ProfileChanges changes = profile.drainChanges();
+        if (changes.isEmpty()) return;
+
+        profileStore.update(profile.getUuid(), changesToUpdate(changes),
+            error -> {
+                profile.requeueChanges(changes);
+                requeue(profile);
+            });
+    }
+
+    private void replaceProfileDocument(PlayerProfile profile) {
+        Document doc;
+        // Snapshot and reset tracking atomically so later deltas apply on top of this document
+        synchronized (profile) {
+            doc = profileToDocument(profile);
+            profile.markPersisted();
+        }
+
+        profileStore.put(profile.getUuid(), doc,
+            error -> {
+                // Deltas recorded meanwhile are still covered by a full rewrite
+                profile.markNotPersisted();
+                requeue(profile);
+            });
+    }
+
+    private Document changesToUpdate(ProfileChanges changes) {
+        Document update = new Document();
+        if (!changes.getIncrements().isEmpty()) {
+            update.append("$inc", new Document(changes.getIncrements()));
+        }
+        if (!changes.getSets().isEmpty()) {
+            Document sets = new Document();
+            for (Map.Entry<String, Object> entry : changes.getSets().entrySet()) {
+                Object value = entry.getValue();
+                sets.append(entry.getKey(), value instanceof Map<?, ?> map ? new Document(castMap(map)) : value);
             }
-        });
+            update.append("$set", sets);
+        }
+        if (!changes.getUnsets().isEmpty()) {
+            Document unsets = new Document();
+            for (String path : changes.getUnsets()) {
+                unsets.append(path, "");
+            }
+            update.append("$unset", unsets);
+        }
+        return update;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> castMap(Map<?, ?> map) {
+        return (Map<String, Object>) map;
+    }
+
+    // Keep it queued so the next flush retries; a profile that already left is rewritten in full
+    private void requeue(PlayerProfile profile) {
+        if (playerProfiles.get(profile.getUuid()) == profile) {
+            dirtyProfiles.add(profile.getUuid());
+            return;
+        }
+        if (writer.isShutdown()) return;
+
+        profile.markNotPersisted();
+        long interval = Math.max(250, DatabaseConfig.PROFILE_FLUSH_INTERVAL_MS);
+        try {
+            writer.schedule(() -> saveProfileToDatabase(profile), interval, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            System.err.println("[ProfileManager] Dropped retry for " + profile.getUuid() + ": writer is shut down");
+        }
+    }
+
+    private void markDirty(PlayerProfile profile) {
+        dirtyProfiles.add(profile.getUuid());
+    }
+
+    private void flushDirtyProfiles() {
+        if (dirtyProfiles.isEmpty()) return;
+
+        List<String> pending = new ArrayList<>(dirtyProfiles);
+        for (String uuid : pending) {
+            dirtyProfiles.remove(uuid);
+            PlayerProfile profile = playerProfiles.get(uuid);
+            if (profile != null) {
+                saveProfileToDatabase(profile);
+            }
+        }
+    }
+
+    public int getPendingSaveCount() {
+        return dirtyProfiles.size();
     }
 
     private PlayerProfile documentToProfile(Document doc) {
@@ -220,6 +310,9 @@ public class ProfileManager {
                 profile.setCustomData(entry.getKey(), entry.getValue());
             }
         }
+
+        // Loaded state matches the stored document, so only later changes need saving
+        profile.markPersisted();
         
         return profile;
     }
@@ -254,11 +347,22 @@ public class ProfileManager {
     public CompletableFuture<Void> saveAllProfiles() {
         return CompletableFuture.runAsync(() -> {
             System.out.println("[ProfileManager] Saving all profiles...");
+            dirtyProfiles.clear();
             for (PlayerProfile profile : playerProfiles.values()) {
                 saveProfileToDatabase(profile);
             }
             System.out.println("[ProfileManager] All profiles saved!");
-        });
+        }, writer);
+    }
+
+    public void shutdown() {
+        try {
+            // Let queued quit saves run, then flush whatever is still dirty
+            saveAllProfiles().get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            System.err.println("[ProfileManager] Error flushing profiles on shutdown: " + e.getMessage());
+        }
+        writer.shutdown();
     }
 
     // Utility methods for other managers
@@ -271,7 +375,24 @@ public class ProfileManager {
     }
 
     public void saveProfile(PlayerProfile profile) {
-        saveProfileToDatabase(profile);
+        if (profile != null) {
+            markDirty(profile);
+        }
+    }
+
+    // Writes the profile now instead of waiting for the next flush (used on quit)
+    public void flushProfile(PlayerProfile profile) {
+        if (profile == null) return;
+        dirtyProfiles.remove(profile.getUuid());
+        writer.execute(() -> saveProfileToDatabase(profile));
+    }
+
+    // Cached multiplier totals include the profile's multipliers, so drop them when the profile changes
+    private void invalidateMultipliers(String uuid) {
+        MultiplierManager multiplierManager = MythicPrison.getInstance().getMultiplierManager();
+        if (multiplierManager != null) {
+            multiplierManager.invalidate(UUID.fromString(uuid));
+        }
     }
 
     // Add this method to ProfileManager class if it doesn't exist:
@@ -1,6 +1,7 @@
 package mythic.prison.managers;
 
 import mythic.prison.MythicPrison;
+import mythic.prison.data.milestones.Milestone.MilestoneType;
 import mythic.prison.data.player.PlayerProfile;
 import mythic.prison.utils.ChatUtil;
 import net.minestom.server.entity.Player;
@@ -139,6 +140,7 @@ public class RankingManager {
         profile.setCurrentRank(nextRank);
         MythicPrison.getInstance().getProfileManager().saveProfile(profile);
         updatePlayerPrefix(player);
+        checkMilestone(player, MilestoneType.RANK_REACHED);
 
         return true;
     }
@@ -174,6 +176,7 @@ public class RankingManager {
 
         MythicPrison.getInstance().getProfileManager().saveProfile(profile);
         updatePlayerPrefix(player);
+        checkMilestone(player, MilestoneType.PRESTIGE_REACHED);
 
         return true;
     }
@@ -250,6 +253,13 @@ public class RankingManager {
         return true;
     }
 
+    private void checkMilestone(Player player, MilestoneType type) {
+        MilestoneManager milestoneManager = MythicPrison.getInstance().getMilestoneManager();
+        if (milestoneManager != null) {
+            milestoneManager.checkProgress(player, type);
+        }
+    }
+
     // Administrative rank reset method
     public boolean resetPlayerRank(Player player, String newRank) {
         if (newRank == null) {
@@ -1,6 +1,8 @@
 package mythic.prison.managers;
 
 import mythic.prison.MythicPrison;
+import mythic.prison.data.mine.PrivateMine;
+import mythic.prison.data.schematic.SchematicTemplate;
 import mythic.prison.utils.ChatUtil;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Pos;
@@ -19,20 +21,27 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SchematicWorldManager {
 
-    private final Map<String, SchematicWorld> worlds = new HashMap<>();
-    private final Map<UUID, String> playerWorlds = new HashMap<>();
+    // Mine worlds are created from the common pool, so these are written concurrently
+    private final Map<String, SchematicWorld> worlds = new ConcurrentHashMap<>();
+    private final Map<UUID, String> playerWorlds = new ConcurrentHashMap<>();
+    private final Map<String, SchematicTemplate> templates = new ConcurrentHashMap<>();
+    private final Set<String> unreadableSchematics = ConcurrentHashMap.newKeySet();
     private final File schematicsFolder;
+    private final File cacheFolder;
 
     public SchematicWorldManager() {
         this.schematicsFolder = new File(MythicPrison.getInstance().getDataFolder(), "schematics");
         if (!schematicsFolder.exists()) {
             schematicsFolder.mkdirs();
         }
+        this.cacheFolder = new File(MythicPrison.getInstance().getDataFolder(), "cache");
 
         setupEventListeners();
         loadDefaultSchematics();
@@ -40,7 +49,8 @@ public class SchematicWorldManager {
 
     private void setupEventListeners() {
         EventNode<Event> moveNode = EventNode.all("player-move");
-        moveNode.addListener(PlayerMoveEvent.class, this::onPlayerMove);
+        moveNode.addListener(PlayerMoveEvent.class,
+                MythicPrison.getInstance().getPerformanceMonitor().timed("event.move", this::onPlayerMove));
         MinecraftServer.getGlobalEventHandler().addChild(moveNode);
     }
 
@@ -90,15 +100,30 @@ public class SchematicWorldManager {
                     return null;
                 }
 
-                // Create new instance
-                InstanceContainer instance = MinecraftServer.getInstanceManager()
-                        .createInstanceContainer(DimensionType.OVERWORLD);
+                InstanceContainer instance;
+                SchematicWorld schematicWorld;
+
+                SchematicTemplate template = getTemplate(schematicName, schematicFile);
+                if (template != null) {
+                    // Chunks share the template's sections until a block in them changes
+                    instance = template.createInstance();
+                    setupWorldLighting(instance);
+                    schematicWorld = new SchematicWorld(
+                            template.getMinX(), template.getMinY(), template.getMinZ(),
+                            template.getMaxX(), template.getMaxY(), template.getMaxZ(),
+                            template.getSpawnPoint()
+                    );
+                } else {
+                    // Create new instance
+                    instance = MinecraftServer.getInstanceManager()
+                            .createInstanceContainer(DimensionType.OVERWORLD);
 
-                // Set up proper lighting for void worlds
-                setupWorldLighting(instance);
+                    // Set up proper lighting for void worlds
+                    setupWorldLighting(instance);
 
-                // Load schematic into instance
-                SchematicWorld schematicWorld = loadSchematic(instance, schematicFile);
+                    // Load the default layout into instance
+                    schematicWorld = loadSchematic(instance, schematicFile);
+                }
                 if (schematicWorld != null) {
                     worlds.put(worldName, schematicWorld);
                     schematicWorld.setInstance(instance);
@@ -116,10 +141,33 @@ public class SchematicWorldManager {
         });
     }
 
+    /**
+     * The compiled template for a schematic, loaded once per name. Returns null if the file can't
+     * be read, in which case the default layout is used.
+     */
+    private SchematicTemplate getTemplate(String schematicName, File schematicFile) {
+        SchematicTemplate template = templates.get(schematicName);
+        if (template != null || unreadableSchematics.contains(schematicName)) {
+            return template;
+        }
+
+        synchronized (templates) {
+            template = templates.get(schematicName);
+            if (template == null && !unreadableSchematics.contains(schematicName)) {
+                try {
+                    template = SchematicTemplate.load(schematicFile, cacheFolder);
+                    templates.put(schematicName, template);
+                } catch (Exception e) {
+                    System.err.println("[SchematicWorldManager] Failed to read " + schematicFile.getName() + ", using the default layout: " + e.getMessage());
+                    unreadableSchematics.add(schematicName);
+                }
+            }
+            return template;
+        }
+    }
+
     private SchematicWorld loadSchematic(InstanceContainer instance, File schematicFile) {
         try {
-            // This is a simplified version - you'll need to implement actual schematic loading
-            // using WorldEdit/FAWE or NBT parsing
             SchematicData data = parseSchematic(schematicFile);
 
             if (data != null) {
@@ -154,15 +202,8 @@ public class SchematicWorldManager {
                 return createDefaultMineSchematic();
             }
 
-            // If it's an actual schematic file, try to parse it
-            if (schematicFile.exists()) {
-                // TODO: Implement actual schematic file parsing here
-                System.out.println("[SchematicWorldManager] Schematic file parsing not yet implemented, using default mine");
-                return createDefaultMineSchematic();
-            } else {
-                System.out.println("[SchematicWorldManager] Schematic file not found: " + schematicFile.getName() + ", using default mine");
-                return createDefaultMineSchematic();
-            }
+            System.out.println("[SchematicWorldManager] No usable schematic for " + schematicFile.getName() + ", using default mine");
+            return createDefaultMineSchematic();
 
         } catch (Exception e) {
             System.err.println("[SchematicWorldManager] Error parsing schematic: " + e.getMessage());
@@ -472,6 +513,13 @@ public class SchematicWorldManager {
 
             // Unregister the instance
             MinecraftServer.getInstanceManager().unregisterInstance(instance);
+
+            // Detach the mine that lived here so the access index drops the dead instance
+            MineManager mineManager = MythicPrison.getInstance().getMineManager();
+            PrivateMine mine = mineManager != null ? mineManager.getMineByInstance(instance) : null;
+            if (mine != null) {
+                mine.setMineInstance(null);
+            }
         }
 
         // Remove from tracking maps
@@ -0,0 +1,98 @@
+package mythic.prison.metrics;
+
+import net.minestom.server.event.Event;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Times event listeners and scheduled tasks by name. Wrap the handler when registering it:
+ *
+ *   handler.addListener(PlayerChatEvent.class, monitor.timed("event.chat", this::onChat));
+ *   scheduler.buildTask(monitor.timedTask("task.scoreboard", this::update))...
+ *
+ * Recording costs two nanoTime calls and a few atomic increments; nothing is allocated.
+ */
+public class PerformanceMonitor {
+    public static final int[] WINDOWS = {1, 5, 15};
+
+    private final Map<String, TimedMetric> metrics = new ConcurrentHashMap<>();
+
+    public TimedMetric metric(String name) {
+        return metrics.computeIfAbsent(name, TimedMetric::new);
+    }
+
+    public <E extends Event> Consumer<E> timed(String name, Consumer<E> listener) {
+        TimedMetric metric = metric(name);
+        return event -> {
+            long start = System.nanoTime();
+            try {
+                listener.accept(event);
+            } finally {
+                metric.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    public Runnable timedTask(String name, Runnable task) {
+        TimedMetric metric = metric(name);
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                metric.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /** Metrics with samples in the window, most total time first. */
+    public List<LatencyHistogram.Snapshot> topOffenders(int minutes, int limit) {
+        List<LatencyHistogram.Snapshot> snapshots = new ArrayList<>();
+        for (TimedMetric metric : metrics.values()) {
+            LatencyHistogram.Snapshot snapshot = metric.snapshot(minutes);
+            if (snapshot.getCount() > 0) {
+                snapshots.add(snapshot);
+            }
+        }
+        snapshots.sort(Comparator.comparingLong(LatencyHistogram.Snapshot::getTotalNanos).reversed());
+        return snapshots.size() > limit ? snapshots.subList(0, limit) : snapshots;
+    }
+
+    public List<String> report(int minutes, int limit) {
+        List<String> lines = new ArrayList<>();
+        lines.add("Top " + limit + " over the last " + minutes + "m (total | count | p50 | p99 | max):");
+
+        List<LatencyHistogram.Snapshot> top = topOffenders(minutes, limit);
+        if (top.isEmpty()) {
+            lines.add("  no samples");
+        }
+        for (LatencyHistogram.Snapshot snapshot : top) {
+            lines.add(String.format("  %-26s %9.1fms %8d %8.3fms %8.3fms %8.3fms",
+                    snapshot.getName(),
+                    millis(snapshot.getTotalNanos()),
+                    snapshot.getCount(),
+                    millis(snapshot.percentileNanos(0.50)),
+                    millis(snapshot.percentileNanos(0.99)),
+                    millis(snapshot.getMaxNanos())));
+        }
+        return lines;
+    }
+
+    public void dumpToConsole(int limit) {
+        System.out.println("[Perf] ===== Listener and task timings =====");
+        for (int minutes : WINDOWS) {
+            for (String line : report(minutes, limit)) {
+                System.out.println("[Perf] " + line);
+            }
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,207 @@
+package mythic.prison.metrics;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.event.server.ServerTickMonitorEvent;
+import net.minestom.server.timer.TaskSchedule;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Watches tick duration from a separate thread. A heartbeat task stamps the start of every tick
+ * and ServerTickMonitorEvent clears it at the end; if a tick is still running past the threshold,
+ * the tick threads are sampled a few times and a stall report is written to data/logs.
+ *
+ * Tick durations are also recorded as the "tick" metric, so /perf shows rolling percentiles.
+ */
+public class TickWatchdog {
+    private static final long THRESHOLD_MS = Long.getLong("mythic.watchdog.thresholdMs", 100L);
+    private static final int SAMPLES = Integer.getInteger("mythic.watchdog.samples", 5);
+    private static final long SAMPLE_INTERVAL_MS = Long.getLong("mythic.watchdog.sampleIntervalMs", 20L);
+    private static final long COOLDOWN_SECONDS = Long.getLong("mythic.watchdog.cooldownSeconds", 60L);
+    private static final int MAX_FRAMES = 24;
+
+    private final File logFolder;
+    private final TimedMetric tickMetric;
+    private final long thresholdNanos = THRESHOLD_MS * 1_000_000L;
+
+    private volatile Thread tickThread;
+    private volatile long tickStartNanos;
+    private long reportedTickStart;
+    private long lastReportNanos;
+    private int suppressedStalls;
+    private volatile boolean running;
+
+    public TickWatchdog(File logFolder, PerformanceMonitor performanceMonitor) {
+        this.logFolder = logFolder;
+        this.tickMetric = performanceMonitor.metric("tick");
+    }
+
+    public void start() {
+        if (THRESHOLD_MS <= 0) {
+            System.out.println("[TickWatchdog] Disabled (mythic.watchdog.thresholdMs <= 0)");
+            return;
+        }
+
+        MinecraftServer.getSchedulerManager()
+                .buildTask(() -> {
+                    tickThread = Thread.currentThread();
+                    tickStartNanos = System.nanoTime();
+                })
+                .repeat(TaskSchedule.tick(1))
+                .schedule();
+
+        MinecraftServer.getGlobalEventHandler().addListener(ServerTickMonitorEvent.class, event -> {
+            tickStartNanos = 0;
+            tickMetric.record((long) (event.getTickMonitor().getTickTime() * 1_000_000));
+        });
+
+        running = true;
+        Thread thread = new Thread(this::run, "MythicPrison-Watchdog");
+        thread.setDaemon(true);
+        thread.start();
+
+        System.out.println("[TickWatchdog] Watching for ticks over " + THRESHOLD_MS + "ms");
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    private void run() {
+        long pollMillis = Math.max(5, THRESHOLD_MS / 4);
+        while (running) {
+            try {
+                Thread.sleep(pollMillis);
+                checkTick();
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                System.err.println("[TickWatchdog] Error checking tick: " + e.getMessage());
+            }
+        }
+    }
+
+    private void checkTick() throws InterruptedException {
+        long start = tickStartNanos;
+        if (start == 0 || start == reportedTickStart) return;
+
+        long now = System.nanoTime();
+        if (now - start < thresholdNanos) return;
+
+        // One report per stalled tick at most, and one per cooldown overall
+        reportedTickStart = start;
+        if (lastReportNanos != 0 && now - lastReportNanos < COOLDOWN_SECONDS * 1_000_000_000L) {
+            suppressedStalls++;
+            return;
+        }
+        lastReportNanos = now;
+
+        List<Thread> threads = findTickThreads();
+        Map<String, Map<String, Integer>> stacks = new LinkedHashMap<>();
+        int taken = 0;
+        while (taken < SAMPLES && tickStartNanos == start) {
+            sample(threads, stacks);
+            taken++;
+            Thread.sleep(SAMPLE_INTERVAL_MS);
+        }
+
+        long stalledMillis = (System.nanoTime() - start) / 1_000_000;
+        boolean finished = tickStartNanos != start;
+        writeReport(stacks, taken, stalledMillis, finished);
+        suppressedStalls = 0;
+    }
+
+    // The heartbeat thread plus Minestom's per-chunk tick threads, found once per stall from the
+    // thread groups so sampling never needs a stack dump of every thread in the JVM
+    private List<Thread> findTickThreads() {
+        List<Thread> threads = new ArrayList<>();
+        Thread main = tickThread;
+        if (main != null) {
+            threads.add(main);
+        }
+
+        ThreadGroup root = Thread.currentThread().getThreadGroup();
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        Thread[] all = new Thread[root.activeCount() + 16];
+        int count = root.enumerate(all, true);
+        for (int i = 0; i < count; i++) {
+            if (all[i] != main && all[i].getName().startsWith("Ms-Tick")) {
+                threads.add(all[i]);
+            }
+        }
+        return threads;
+    }
+
+    // Only the given threads are stopped, one at a time
+    private void sample(List<Thread> threads, Map<String, Map<String, Integer>> stacks) {
+        for (Thread thread : threads) {
+            StackTraceElement[] frames = thread.getStackTrace();
+            if (frames.length == 0) continue;
+
+            StringBuilder stack = new StringBuilder();
+            for (int i = 0; i < Math.min(frames.length, MAX_FRAMES); i++) {
+                stack.append("    at ").append(frames[i]).append('\n');
+            }
+            if (frames.length > MAX_FRAMES) {
+                stack.append("    ... ").append(frames.length - MAX_FRAMES).append(" more\n");
+            }
+
+            String key = thread.getName() + " (" + thread.getState() + ")";
+            stacks.computeIfAbsent(key, k -> new LinkedHashMap<>()).merge(stack.toString(), 1, Integer::sum);
+        }
+    }
+
+    private void writeReport(Map<String, Map<String, Integer>> stacks, int samples, long stalledMillis, boolean finished) {
+        if (!logFolder.exists()) {
+            logFolder.mkdirs();
+        }
+
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date());
+        File file = new File(logFolder, "stall-" + timestamp + ".txt");
+
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            out.println("Tick stall at " + new Date());
+            out.println("Tick ran " + (finished ? "" : "at least ") + stalledMillis + "ms (threshold " + THRESHOLD_MS + "ms), "
+                    + samples + " samples " + SAMPLE_INTERVAL_MS + "ms apart");
+            if (suppressedStalls > 0) {
+                out.println(suppressedStalls + " earlier stall(s) not reported (cooldown " + COOLDOWN_SECONDS + "s)");
+            }
+
+            out.println();
+            for (int minutes : PerformanceMonitor.WINDOWS) {
+                LatencyHistogram.Snapshot ticks = tickMetric.snapshot(minutes);
+                out.println(String.format("Tick time %2dm: n=%d p50=%.1fms p99=%.1fms max=%.1fms", minutes, ticks.getCount(),
+                        ticks.percentileNanos(0.50) / 1e6, ticks.percentileNanos(0.99) / 1e6, ticks.getMaxNanos() / 1e6));
+            }
+
+            for (Map.Entry<String, Map<String, Integer>> thread : stacks.entrySet()) {
+                out.println();
+                out.println("Thread " + thread.getKey());
+
+                // Most frequent stack first; identical samples are folded together
+                List<Map.Entry<String, Integer>> distinct = new ArrayList<>(thread.getValue().entrySet());
+                distinct.sort((a, b) -> b.getValue() - a.getValue());
+                for (Map.Entry<String, Integer> stack : distinct) {
+                    out.println("  " + stack.getValue() + "/" + samples + " samples:");
+                    out.print(stack.getKey());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[TickWatchdog] Failed to write stall report: " + e.getMessage());
+            return;
+        }
+
+        System.err.println("[TickWatchdog] Tick stalled for " + stalledMillis + "ms, report written to " + file.getPath());
+    }
+}
@@ -0,0 +1,59 @@
+package mythic.prison.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * One histogram per minute for the last 16 minutes, so 1/5/15 minute windows can be
+ * merged on demand. A slot is cleared lazily by the first sample of a new minute.
+ */
+public class TimedMetric {
+    private static final int SLOTS = 16;
+    private static final long MINUTE_NANOS = 60_000_000_000L;
+
+    private final String name;
+    private final LatencyHistogram[] slots = new LatencyHistogram[SLOTS];
+    private final AtomicLongArray slotMinutes = new AtomicLongArray(SLOTS);
+
+    public TimedMetric(String name) {
+        this.name = name;
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new LatencyHistogram();
+            slotMinutes.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        long minute = currentMinute();
+        int slot = (int) Math.floorMod(minute, SLOTS);
+        long stamp = slotMinutes.get(slot);
+        if (stamp != minute && slotMinutes.compareAndSet(slot, stamp, minute)) {
+            // A sample racing with the reset may be lost, which is fine for a sampling view
+            slots[slot].reset();
+        }
+        slots[slot].record(nanos);
+    }
+
+    /** Merges the current minute and the (minutes - 1) before it. */
+    public LatencyHistogram.Snapshot snapshot(int minutes) {
+        long now = currentMinute();
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        long[] totals = new long[3];
+
+        for (int i = 0; i < Math.min(minutes, SLOTS); i++) {
+            long minute = now - i;
+            int slot = (int) Math.floorMod(minute, SLOTS);
+            if (slotMinutes.get(slot) == minute) {
+                slots[slot].addTo(counts, totals);
+            }
+        }
+        return new LatencyHistogram.Snapshot(name, counts, totals);
+    }
+
+    private static long currentMinute() {
+        return Math.floorDiv(System.nanoTime(), MINUTE_NANOS);
+    }
+}
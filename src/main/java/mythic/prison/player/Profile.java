@@ -6,6 +6,8 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import mythic.prison.MythicPrison;
 import mythic.prison.data.backpack.Backpack;
+import mythic.prison.database.store.ProfileStore;
+import org.bson.Document;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import mythic.prison.player.Profile;
@@ -389,8 +391,9 @@ public class Profile {
         return CompletableFuture.runAsync(() -> {
             try {
                 this.lastSeen = System.currentTimeMillis();
-                String json = this.toJson();
-                MythicPrison.getInstance().getRedisManager().getSyncCommands().set("profile:" + uuid, json);
+                ProfileStore store = MythicPrison.getInstance().getProfileStore();
+                store.openCache("profile").put(uuid, Document.parse(this.toJson()));
+                store.openCache("username").put(username.toLowerCase(), new Document("uuid", uuid));
             } catch (Exception e) {
                 System.err.println("Error saving profile for " + username + ": " + e.getMessage());
             }
@@ -400,9 +403,9 @@ public class Profile {
     public static CompletableFuture<Profile> loadAsync(String uuid) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                String json = MythicPrison.getInstance().getRedisManager().getSyncCommands().get("profile:" + uuid);
-                if (json != null) {
-                    return Profile.fromJson(json);
+                Document doc = MythicPrison.getInstance().getProfileStore().openCache("profile").get(uuid);
+                if (doc != null) {
+                    return Profile.fromJson(doc.toJson());
                 }
                 return null;
             } catch (Exception e) {
@@ -416,9 +419,9 @@ public class Profile {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 // First try to get UUID from username mapping
-                String uuid = MythicPrison.getInstance().getRedisManager().getSyncCommands().get("username:" + username.toLowerCase());
-                if (uuid != null) {
-                    return loadAsync(uuid).join();
+                Document mapping = MythicPrison.getInstance().getProfileStore().openCache("username").get(username.toLowerCase());
+                if (mapping != null && mapping.getString("uuid") != null) {
+                    return loadAsync(mapping.getString("uuid")).join();
                 }
                 return null;
             } catch (Exception e) {
@@ -431,8 +434,9 @@ public class Profile {
     public CompletableFuture<Void> deleteAsync() {
         return CompletableFuture.runAsync(() -> {
             try {
-                MythicPrison.getInstance().getRedisManager().getSyncCommands().del("profile:" + uuid);
-                MythicPrison.getInstance().getRedisManager().getSyncCommands().del("username:" + username.toLowerCase());
+                ProfileStore store = MythicPrison.getInstance().getProfileStore();
+                store.openCache("profile").delete(uuid);
+                store.openCache("username").delete(username.toLowerCase());
             } catch (Exception e) {
                 System.err.println("Error deleting profile for " + username + ": " + e.getMessage());
             }
@@ -443,11 +447,10 @@ public class Profile {
     public Backpack toBackpack() {
         Backpack backpack = new Backpack(this.uuid);
         backpack.setMaxVolume(getBackpackMaxVolume());
-        backpack.setCurrentVolume(getBackpackCurrentVolume());
         backpack.setSellMultiplier(getBackpackSellMultiplier());
         backpack.setAutoSellEnabled(isBackpackAutoSellEnabled());
         
-        // Set the blocks
+        // Set the blocks (currentVolume is rebuilt from the counts)
         Map<String, Integer> blocks = getBackpackBlocks();
         for (Map.Entry<String, Integer> entry : blocks.entrySet()) {
             backpack.addBlock(entry.getKey(), entry.getValue());
@@ -0,0 +1,111 @@
+package mythic.prison.utils;
+
+/**
+ * Compact number formatting shared by the scoreboard, lore, GUIs and chat.
+ *
+ * format:      1234 -> 1.2K, 5000000 -> 5M, 999 -> 999
+ * formatMoney: 1234 -> 1.23K, 45600 -> 45.6K, 999.5 -> 999.50
+ *
+ * Suffixes go up to octodecillion (1e57); anything larger keeps the OC suffix.
+ * Digits are written into a per-thread StringBuilder so the only allocation is the result.
+ */
+public final class NumberFormatter {
+
+    private static final String[] SUFFIXES = {
+            "", "K", "M", "B", "T", "Q", "QQ", "S", "SS", "O",
+            "N", "D", "UN", "DD", "TR", "QT", "QN", "SD", "SP", "OC"
+    };
+
+    // 10^0 .. 10^(3 * (SUFFIXES.length - 1) + 2)
+    private static final double[] POWERS_OF_TEN = new double[SUFFIXES.length * 3];
+    private static final long[] LONG_POWERS = {1L, 10L, 100L, 1_000L};
+
+    static {
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = Double.parseDouble("1e" + i);
+        }
+    }
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(24));
+
+    private NumberFormatter() {
+    }
+
+    /** Whole numbers below 1000 as-is, everything else with one decimal that is dropped when it is zero. */
+    public static String format(double value) {
+        if (!Double.isFinite(value)) return String.valueOf(value);
+
+        double abs = Math.abs(value);
+        if (abs < 1000 && abs == Math.rint(abs)) {
+            return Long.toString((long) value);
+        }
+        return write(value, 1, true, false);
+    }
+
+    public static String format(long value) {
+        if (value > -1000 && value < 1000) return Long.toString(value);
+        return format((double) value);
+    }
+
+    /** Two decimals below 1000, then three significant digits with a suffix. */
+    public static String formatMoney(double value) {
+        if (!Double.isFinite(value)) return String.valueOf(value);
+
+        return write(value, 2, false, Math.abs(value) >= 1000);
+    }
+
+    // With threeSignificant, decimals are dropped until the rounded value has at most three digits
+    private static String write(double value, int decimals, boolean trimZeros, boolean threeSignificant) {
+        double abs = Math.abs(value);
+        int group = groupOf(abs);
+        int startDecimals = decimals;
+        long scale = LONG_POWERS[decimals];
+        double scaled = abs / POWERS_OF_TEN[group * 3];
+        long units = Math.round(scaled * scale);
+
+        // Decided after rounding, so 9.999K becomes 10.0K rather than 10.00K
+        while (threeSignificant && decimals > 0 && units >= 1000) {
+            decimals--;
+            scale = LONG_POWERS[decimals];
+            units = Math.round(scaled * scale);
+        }
+
+        // 999.96K rounds to 1000.0K, which reads better as 1.0M
+        if (units >= 1000 * scale && group < SUFFIXES.length - 1) {
+            group++;
+            decimals = startDecimals;
+            scale = LONG_POWERS[decimals];
+            units = Math.round(abs / POWERS_OF_TEN[group * 3] * scale);
+        }
+        if (units == Long.MAX_VALUE) {
+            // Only reachable far past 1e57, where the mantissa no longer fits a long
+            return String.format("%.0f%s", value / POWERS_OF_TEN[(SUFFIXES.length - 1) * 3], SUFFIXES[SUFFIXES.length - 1]);
+        }
+
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        if (value < 0 && units != 0) out.append('-');
+
+        out.append(units / scale);
+        long fraction = units % scale;
+        if (decimals > 0 && !(trimZeros && fraction == 0)) {
+            out.append('.');
+            for (long digit = scale / 10; digit > 0; digit /= 10) {
+                out.append((char) ('0' + (fraction / digit) % 10));
+            }
+        }
+        out.append(SUFFIXES[group]);
+        return out.toString();
+    }
+
+    // Index into SUFFIXES: floor(log10(abs) / 3), estimated from the binary exponent and corrected once
+    private static int groupOf(double abs) {
+        if (abs < 1000) return 0;
+
+        int digits = (int) ((Math.getExponent(abs) * 78913L) >> 18); // floor(e2 * log10(2))
+        if (digits + 1 < POWERS_OF_TEN.length && abs >= POWERS_OF_TEN[digits + 1]) {
+            digits++;
+        }
+        return Math.min(digits / 3, SUFFIXES.length - 1);
+    }
+}
@@ -0,0 +1,94 @@
+package mythic.prison.database.store;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentUpdatesTest {
+
+    @Test
+    void incIntByIntStaysInt() {
+        Document target = new Document("count", 5);
+        DocumentUpdates.apply(target, new Document("$inc", new Document("count", 3)));
+
+        assertInstanceOf(Integer.class, target.get("count"));
+        assertEquals(8, target.get("count"));
+    }
+
+    @Test
+    void incIntByLongWidensToLong() {
+        Document target = new Document("count", 5);
+        DocumentUpdates.apply(target, new Document("$inc", new Document("count", 3_000_000_000L)));
+
+        assertInstanceOf(Long.class, target.get("count"));
+        assertEquals(3_000_000_005L, target.get("count"));
+    }
+
+    @Test
+    void incIntByDoubleWidensToDouble() {
+        Document target = new Document("money", 5);
+        DocumentUpdates.apply(target, new Document("$inc", new Document("money", 0.5)));
+
+        assertInstanceOf(Double.class, target.get("money"));
+        assertEquals(5.5, target.get("money"));
+    }
+
+    @Test
+    void incLongByDoubleWidensToDouble() {
+        Document target = new Document("money", 10L);
+        DocumentUpdates.apply(target, new Document("$inc", new Document("money", 1.25)));
+
+        assertInstanceOf(Double.class, target.get("money"));
+        assertEquals(11.25, target.get("money"));
+    }
+
+    @Test
+    void incMissingFieldStartsFromZero() {
+        Document target = new Document();
+        DocumentUpdates.apply(target, new Document("$inc", new Document("stats.blocks", 2)));
+
+        assertEquals(2, target.get("stats", Document.class).get("blocks"));
+    }
+
+    @Test
+    void setDottedPathCreatesParents() {
+        Document target = new Document("name", "Steve");
+        DocumentUpdates.apply(target, new Document("$set", new Document("settings.autoSell.enabled", true)));
+
+        Document autoSell = target.get("settings", Document.class).get("autoSell", Document.class);
+        assertEquals(true, autoSell.get("enabled"));
+        assertEquals("Steve", target.get("name"));
+    }
+
+    @Test
+    void setDottedPathKeepsSiblings() {
+        Document target = new Document("stats", new Document("blocks", 10).append("rank", "A"));
+        DocumentUpdates.apply(target, new Document("$set", new Document("stats.rank", "B")));
+
+        Document stats = target.get("stats", Document.class);
+        assertEquals("B", stats.get("rank"));
+        assertEquals(10, stats.get("blocks"));
+    }
+
+    @Test
+    void unsetDottedPathRemovesOnlyTheLeaf() {
+        Document target = new Document("multipliers", new Document("money", 2.0).append("tokens", 1.5));
+        DocumentUpdates.apply(target, new Document("$unset", new Document("multipliers.money", "")));
+
+        Document multipliers = target.get("multipliers", Document.class);
+        assertFalse(multipliers.containsKey("money"));
+        assertTrue(multipliers.containsKey("tokens"));
+    }
+
+    @Test
+    void unsetUnderMissingParentDoesNothing() {
+        Document target = new Document("name", "Steve");
+        DocumentUpdates.apply(target, new Document("$unset", new Document("settings.autoSell", "")));
+
+        assertEquals(new Document("name", "Steve"), target);
+    }
+}
@@ -0,0 +1,79 @@
+package mythic.prison.database.store;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FileKeyValueStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaySkipsHalfWrittenLastLine() throws IOException {
+        File log = directory.resolve("profiles.log").toFile();
+        Files.writeString(log.toPath(),
+                "{\"op\": \"put\", \"key\": \"a\", \"doc\": {\"money\": 10}}\n"
+                        + "{\"op\": \"update\", \"key\": \"a\", \"update\": {\"$inc\": {\"money\": 5}}}\n"
+                        + "{\"op\": \"update\", \"key\": \"a\", \"upd",
+                StandardCharsets.UTF_8);
+
+        FileKeyValueStore store = new FileKeyValueStore("profiles", log);
+        try {
+            assertEquals(15, store.get("a").get("money"));
+            assertEquals(1, store.size());
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void writesSurviveCompaction() throws IOException {
+        File log = directory.resolve("profiles.log").toFile();
+
+        FileKeyValueStore store = new FileKeyValueStore("profiles", log);
+        store.put("a", new Document("money", 10).append("stats", new Document("blocks", 1)));
+        store.put("b", new Document("money", 20));
+        store.put("c", new Document("money", 30));
+        store.update("a", new Document("$inc", new Document("money", 2.5)).append("$set", new Document("stats.rank", "B")));
+        store.update("missing", new Document("$inc", new Document("money", 1)));
+        store.delete("b");
+        store.put("c", new Document("money", 31L));
+        store.close();
+
+        // Reopening replays the log and compacts it, the second reopen reads the compacted log
+        for (int reopen = 0; reopen < 2; reopen++) {
+            FileKeyValueStore reopened = new FileKeyValueStore("profiles", log);
+            try {
+                Document a = reopened.get("a");
+                assertInstanceOf(Double.class, a.get("money"));
+                assertEquals(12.5, a.get("money"));
+                assertEquals(new Document("blocks", 1).append("rank", "B"), a.get("stats", Document.class));
+
+                assertNull(reopened.get("b"));
+                assertNull(reopened.get("missing"));
+
+                assertInstanceOf(Long.class, reopened.get("c").get("money"));
+                assertEquals(31L, reopened.get("c").get("money"));
+                assertEquals(2, reopened.size());
+            } finally {
+                reopened.close();
+            }
+        }
+
+        // One put per live document after compaction
+        List<String> lines = Files.readAllLines(log.toPath(), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+    }
+}
@@ -0,0 +1,108 @@
+package mythic.prison.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumberFormatterTest {
+
+    @Test
+    void formatKeepsSmallWholeNumbers() {
+        assertEquals("0", NumberFormatter.format(0));
+        assertEquals("999", NumberFormatter.format(999));
+        assertEquals("999", NumberFormatter.format(999L));
+    }
+
+    @Test
+    void formatUsesOneTrimmedDecimal() {
+        assertEquals("999.4", NumberFormatter.format(999.4));
+        assertEquals("1K", NumberFormatter.format(1000));
+        assertEquals("1.2K", NumberFormatter.format(1234));
+        assertEquals("5M", NumberFormatter.format(5_000_000));
+    }
+
+    @Test
+    void formatCarriesRoundingIntoNextSuffix() {
+        assertEquals("1K", NumberFormatter.format(999.95));
+        assertEquals("999.9K", NumberFormatter.format(999_949));
+        assertEquals("1M", NumberFormatter.format(999_950));
+        assertEquals("1M", NumberFormatter.format(999_999L));
+    }
+
+    @Test
+    void formatStopsAtLastSuffix() {
+        assertEquals("1OC", NumberFormatter.format(1e57));
+        assertEquals("1.5OC", NumberFormatter.format(1.5e57));
+        assertEquals("1000OC", NumberFormatter.format(1e60));
+
+        String huge = NumberFormatter.format(1e300);
+        assertTrue(huge.startsWith("1000") && huge.endsWith("OC"), huge);
+    }
+
+    @Test
+    void formatNegatives() {
+        assertEquals("-1", NumberFormatter.format(-1));
+        assertEquals("-999", NumberFormatter.format(-999L));
+        assertEquals("-0.4", NumberFormatter.format(-0.4));
+        assertEquals("-1.2K", NumberFormatter.format(-1234));
+        assertEquals("-1K", NumberFormatter.format(-1000L));
+        assertEquals("-1M", NumberFormatter.format(-999_950));
+    }
+
+    @Test
+    void formatNonFinite() {
+        assertEquals("NaN", NumberFormatter.format(Double.NaN));
+        assertEquals("Infinity", NumberFormatter.format(Double.POSITIVE_INFINITY));
+        assertEquals("-Infinity", NumberFormatter.format(Double.NEGATIVE_INFINITY));
+        assertEquals("NaN", NumberFormatter.formatMoney(Double.NaN));
+        assertEquals("Infinity", NumberFormatter.formatMoney(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void formatLongExtremes() {
+        assertEquals("9.2QQ", NumberFormatter.format(Long.MAX_VALUE));
+        assertEquals("-9.2QQ", NumberFormatter.format(Long.MIN_VALUE));
+    }
+
+    @Test
+    void formatMoneyBelowThousandHasTwoDecimals() {
+        assertEquals("0.00", NumberFormatter.formatMoney(0));
+        assertEquals("0.50", NumberFormatter.formatMoney(0.5));
+        assertEquals("999.00", NumberFormatter.formatMoney(999));
+        assertEquals("999.50", NumberFormatter.formatMoney(999.5));
+        assertEquals("999.95", NumberFormatter.formatMoney(999.95));
+        assertEquals("-5.50", NumberFormatter.formatMoney(-5.5));
+        // Rounds to zero, so no sign
+        assertEquals("0.00", NumberFormatter.formatMoney(-0.001));
+    }
+
+    @Test
+    void formatMoneyKeepsThreeSignificantDigits() {
+        assertEquals("1.00K", NumberFormatter.formatMoney(1000));
+        assertEquals("1.23K", NumberFormatter.formatMoney(1234));
+        assertEquals("45.6K", NumberFormatter.formatMoney(45_600));
+        assertEquals("123K", NumberFormatter.formatMoney(123_456));
+        assertEquals("1.00OC", NumberFormatter.formatMoney(1e57));
+        assertEquals("-1.23K", NumberFormatter.formatMoney(-1234));
+    }
+
+    @Test
+    void formatMoneyCarriesRoundingIntoNextSuffix() {
+        assertEquals("1.00K", NumberFormatter.formatMoney(999.995));
+        assertEquals("1.00M", NumberFormatter.formatMoney(999_500));
+        assertEquals("1.00M", NumberFormatter.formatMoney(999_950));
+        assertEquals("1.00M", NumberFormatter.formatMoney(1_000_000));
+        assertEquals("-1.00M", NumberFormatter.formatMoney(-999_950));
+    }
+
+    @Test
+    void formatMoneyDropsDecimalsWhenRoundingAddsADigit() {
+        assertEquals("10.0K", NumberFormatter.formatMoney(9_999));
+        assertEquals("100K", NumberFormatter.formatMoney(99_950));
+        assertEquals("100M", NumberFormatter.formatMoney(99_999_000));
+        assertEquals("9.99K", NumberFormatter.formatMoney(9_994));
+        assertEquals("99.9K", NumberFormatter.formatMoney(99_949));
+        assertEquals("-10.0K", NumberFormatter.formatMoney(-9_999));
+    }
+}